@@ -0,0 +1,255 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.ReadOnlyCalendar;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryCalendarStorage;
+import seedu.address.storage.CalendarStorage;
+import seedu.address.storage.JournaledCalendarStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedCalendarStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The config, storage and model of the app, which are set up the same way whether or not the GUI is started. None of
+ * these depend on JavaFX, so that NOVA can also be run from a terminal.
+ */
+public class AppCore {
+
+    private static final Logger logger = LogsCenter.getLogger(AppCore.class);
+
+    private Config config;
+    private Storage storage;
+    private Model model;
+
+    private AppCore() {
+
+    }
+
+    /**
+     * Initializes the config, storage and model of the app.
+     *
+     * @param appParameters the command-line parameters given to the app
+     * @param isAsyncSave   whether the calendar should be saved by a background writer
+     * @return the initialized core of the app
+     */
+    public static AppCore init(AppParameters appParameters, boolean isAsyncSave) {
+
+        AppCore core = new AppCore();
+        core.initStorageAndModel(appParameters, isAsyncSave);
+        return core;
+    }
+
+    public Config getConfig() {
+
+        return config;
+    }
+
+    public Storage getStorage() {
+
+        return storage;
+    }
+
+    public Model getModel() {
+
+        return model;
+    }
+
+    private void initStorageAndModel(AppParameters appParameters, boolean isAsyncSave) {
+
+        config = initConfig(appParameters.getConfigPath());
+        JsonUtil.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+
+        CalendarStorage calendarStorage = initCalendarStorage(userPrefs.getCalendarFilePath());
+        storage = new StorageManager(calendarStorage, userPrefsStorage, isAsyncSave);
+
+        initLogging(config);
+
+        model = initModelManager(storage, userPrefs);
+    }
+
+    /**
+     * Returns the {@code CalendarStorage} for the format picked by the extension of {@code calendarFilePath}.
+     * A binary calendar file or a shard directory that does not exist yet is converted from the json calendar file
+     * beside it, if there is one.
+     */
+    private CalendarStorage initCalendarStorage(Path calendarFilePath) {
+
+        CalendarStorage calendarStorage;
+        String extension;
+
+        if (BinaryCalendarStorage.isBinaryFile(calendarFilePath)) {
+            calendarStorage = new BinaryCalendarStorage(calendarFilePath);
+            extension = BinaryCalendarStorage.FILE_EXTENSION;
+        } else if (ShardedCalendarStorage.isShardDirectory(calendarFilePath)) {
+            calendarStorage = new ShardedCalendarStorage(calendarFilePath);
+            extension = ShardedCalendarStorage.DIRECTORY_EXTENSION;
+        } else {
+            return new JournaledCalendarStorage(calendarFilePath);
+        }
+
+        String fileName = FileUtil.getUncompressedFileName(calendarFilePath);
+        Path jsonFilePath = calendarFilePath.resolveSibling(
+                fileName.substring(0, fileName.length() - extension.length()) + ".json");
+
+        try {
+            if (calendarStorage.convertFrom(new JournaledCalendarStorage(jsonFilePath))) {
+                logger.info("Converted calendar in " + jsonFilePath + " to " + calendarFilePath);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Json calendar file could not be converted: " + StringUtil.getDetails(e));
+        }
+
+        return calendarStorage;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s calendar and {@code userPrefs}. <br>
+     * The data from the sample calendar will be used instead if {@code storage}'s calendar is not found,
+     * or an empty calendar will be used instead if errors occur when reading {@code storage}'s calendar.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+
+        Optional<ReadOnlyCalendar> calendarOptional;
+        ReadOnlyCalendar initialCalendar;
+
+        try {
+
+            // The weeks away from today may be left to load in the background, so that the window opens sooner
+            calendarOptional = storage.readCalendarAround(LocalDate.now());
+
+            if (calendarOptional.isEmpty()) {
+                logger.info("Data file not found. Will be starting with a sample calendar");
+            }
+
+            initialCalendar = calendarOptional.orElse(SampleDataUtil.getSampleCalendar());
+        } catch (DataConversionException e) {
+            initialCalendar = readBackupCalendar(storage).orElseGet(() -> {
+                logger.warning("Data file not in the correct format. Will be starting with an empty calendar");
+                return new Calendar(userPrefs.getCalendarStartDate());
+            });
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty calendar");
+            initialCalendar = new Calendar(userPrefs.getCalendarStartDate());
+        }
+
+        return new ModelManager(initialCalendar, userPrefs);
+    }
+
+    /**
+     * Returns the calendar in the backup kept beside {@code storage}'s calendar file, if it can be read.
+     */
+    private Optional<ReadOnlyCalendar> readBackupCalendar(Storage storage) {
+
+        Path backupFilePath = FileUtil.getBackupPath(storage.getCalendarFilePath());
+
+        try {
+            Optional<ReadOnlyCalendar> backupCalendar = storage.readCalendar(backupFilePath);
+            backupCalendar.ifPresent(calendar ->
+                    logger.warning("Data file not in the correct format. Will be starting with the calendar in "
+                            + backupFilePath));
+            return backupCalendar;
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Backup data file could not be read: " + StringUtil.getDetails(e));
+            return Optional.empty();
+        }
+    }
+
+    private void initLogging(Config config) {
+
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty calendar");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+}
@@ -2,8 +2,10 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -18,7 +20,17 @@ public class AppParameters {
 
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final String NAMED_PARAMETER_PREFIX = "--";
+    private static final String CONFIG_PARAMETER = "config";
+    private static final String BATCH_PARAMETER = "batch";
+    private static final String REPL_FLAG = "repl";
+
+    // Only these parameters take the argument after them as their value, so that a flag cannot swallow it
+    private static final Set<String> VALUED_PARAMETERS = Set.of(CONFIG_PARAMETER, BATCH_PARAMETER);
+
     private Path configPath;
+    private Path batchScriptPath;
+    private boolean isRepl;
 
     public Path getConfigPath() {
 
@@ -30,21 +42,94 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Gets the script of commands to run without the GUI, or null if the GUI should be started.
+     */
+    public Path getBatchScriptPath() {
+
+        return batchScriptPath;
+    }
+
+    public void setBatchScriptPath(Path batchScriptPath) {
+
+        this.batchScriptPath = batchScriptPath;
+    }
+
+    /**
+     * Returns true if commands should be read from the terminal instead of starting the GUI.
+     */
+    public boolean isRepl() {
+
+        return isRepl;
+    }
+
+    public void setRepl(boolean isRepl) {
+
+        this.isRepl = isRepl;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
 
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the raw command-line arguments, before JavaFX is started. A named parameter may be given either as
+     * {@code --name=value} or as {@code --name value}, and a flag as just {@code --name}. A flag never takes the
+     * argument after it as its value.
+     */
+    public static AppParameters parse(String[] args) {
+
+        Map<String, String> namedParameters = new HashMap<>();
+
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith(NAMED_PARAMETER_PREFIX)) {
+                continue;
+            }
+
+            String parameter = args[i].substring(NAMED_PARAMETER_PREFIX.length());
+            int separatorIndex = parameter.indexOf('=');
+
+            if (separatorIndex >= 0) {
+                namedParameters.put(parameter.substring(0, separatorIndex), parameter.substring(separatorIndex + 1));
+            } else if (VALUED_PARAMETERS.contains(parameter) && i + 1 < args.length
+                    && !args[i + 1].startsWith(NAMED_PARAMETER_PREFIX)) {
+                namedParameters.put(parameter, args[++i]);
+            } else {
+                namedParameters.put(parameter, "");
+            }
+        }
+
+        return parse(namedParameters);
+    }
+
+    private static AppParameters parse(Map<String, String> namedParameters) {
+
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
-        String configPathParameter = namedParameters.get("config");
+        String configPathParameter = namedParameters.get(CONFIG_PARAMETER);
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
             logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
             configPathParameter = null;
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String batchScriptParameter = namedParameters.get(BATCH_PARAMETER);
+        if (batchScriptParameter != null && batchScriptParameter.isEmpty()) {
+            logger.warning("No batch script given after " + NAMED_PARAMETER_PREFIX + BATCH_PARAMETER
+                    + ". Starting the GUI instead.");
+            batchScriptParameter = null;
+        } else if (batchScriptParameter != null && !FileUtil.isValidPath(batchScriptParameter)) {
+            logger.warning("Invalid batch script path " + batchScriptParameter + ". Starting the GUI instead.");
+            batchScriptParameter = null;
+        }
+        appParameters.setBatchScriptPath(batchScriptParameter != null ? Paths.get(batchScriptParameter) : null);
+
+        appParameters.setRepl(namedParameters.containsKey(REPL_FLAG));
+
         return appParameters;
     }
 
@@ -60,13 +145,15 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getBatchScriptPath(), otherAppParameters.getBatchScriptPath())
+                && isRepl() == otherAppParameters.isRepl();
     }
 
     @Override
     public int hashCode() {
 
-        return configPath.hashCode();
+        return Objects.hash(configPath, batchScriptPath, isRepl);
     }
 
 }
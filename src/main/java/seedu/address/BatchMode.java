@@ -0,0 +1,106 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.NovaParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands against the calendar without starting the GUI.
+ * <p>
+ * Each line of the script is executed as if it were typed into the command box, except that the calendar is only
+ * saved once, after the last line, rather than after every command that changes it. Blank lines and lines starting
+ * with {@code #} are skipped. A command that fails is reported with its line number, and the rest of the script is
+ * still run.
+ */
+public class BatchMode {
+
+    public static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMode.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final NovaParser novaParser = new NovaParser();
+
+    public BatchMode(Model model, Storage storage) {
+
+        this.model = model;
+        this.storage = storage;
+    }
+
+    /**
+     * Starts NOVA without JavaFX and runs the batch script given in the parameters.
+     *
+     * @param appParameters the command-line parameters, which name the batch script
+     * @return the exit status of the run
+     */
+    public static int run(AppParameters appParameters) {
+
+        logger.info("=========================[ Running NOVA in batch mode ]======================");
+
+        AppCore core = AppCore.init(appParameters, false);
+        return new BatchMode(core.getModel(), core.getStorage()).run(appParameters.getBatchScriptPath());
+    }
+
+    /**
+     * Runs the commands in a script, and saves the calendar once they have all been run.
+     *
+     * @param scriptPath the script of commands, one on each line
+     * @return the exit status of the run
+     */
+    public int run(Path scriptPath) {
+
+        List<String> lines;
+
+        try {
+            lines = Files.readAllLines(scriptPath);
+        } catch (IOException e) {
+            System.err.println("Could not read batch script " + scriptPath + ": " + e);
+            return ExitStatus.IO_ERROR;
+        }
+
+        int executedCount = 0;
+        int failedCount = 0;
+
+        for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+            String commandText = lines.get(lineNumber - 1).trim();
+
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            try {
+                Command command = novaParser.parseCommand(commandText);
+                command.execute(model);
+                executedCount++;
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                System.err.println(scriptPath + ":" + lineNumber + ": " + e.getMessage());
+            }
+        }
+
+        try {
+            storage.saveCalendar(model.getCalendar());
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save calendar " + StringUtil.getDetails(e));
+            System.err.println("Could not save the calendar: " + e);
+            return ExitStatus.IO_ERROR;
+        }
+
+        System.out.println("Ran " + executedCount + " commands from " + scriptPath + ", " + failedCount + " failed");
+        return failedCount == 0 ? ExitStatus.SUCCESS : ExitStatus.COMMAND_FAILED;
+    }
+
+}
@@ -0,0 +1,12 @@
+package seedu.address;
+
+/**
+ * The exit statuses of the runs of NOVA without the GUI.
+ */
+public class ExitStatus {
+
+    public static final int SUCCESS = 0;
+    public static final int COMMAND_FAILED = 1;
+    public static final int IO_ERROR = 2;
+
+}
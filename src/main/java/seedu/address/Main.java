@@ -21,12 +21,23 @@ import javafx.application.Application;
 public class Main {
 
     /**
-     * The entry point of application.
+     * The entry point of application. Given a batch script with {@code --batch}, the script is run without starting
+     * the GUI. Given {@code --repl}, commands are read from the terminal instead of starting the GUI.
      *
      * @param args the input arguments
      */
     public static void main(String[] args) {
 
+        AppParameters appParameters = AppParameters.parse(args);
+
+        if (appParameters.getBatchScriptPath() != null) {
+            System.exit(BatchMode.run(appParameters));
+        }
+
+        if (appParameters.isRepl()) {
+            System.exit(ReplMode.run(appParameters));
+        }
+
         Application.launch(MainApp.class, args);
     }
 
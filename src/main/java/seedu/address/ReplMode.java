@@ -0,0 +1,112 @@
+package seedu.address;
+
+import static seedu.address.logic.constants.Messages.USERGUIDE_URL;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Reads commands from the terminal and prints their results, without starting JavaFX.
+ * <p>
+ * Each command is executed through {@link Logic}, so the calendar is saved after every command that changes it, just
+ * as it is in the GUI. The loop ends on the exit command or at the end of the input.
+ */
+public class ReplMode {
+
+    public static final String PROMPT = "nova> ";
+    public static final String MESSAGE_WELCOME = "Welcome to NOVA. Type \"exit\" to quit.";
+    public static final String MESSAGE_HELP = "The user guide is at " + USERGUIDE_URL;
+
+    private static final Logger logger = LogsCenter.getLogger(ReplMode.class);
+
+    private final Logic logic;
+    private final Model model;
+    private final Storage storage;
+
+    public ReplMode(Model model, Storage storage) {
+
+        this.model = model;
+        this.storage = storage;
+        logic = new LogicManager(model, storage);
+    }
+
+    /**
+     * Starts NOVA without JavaFX and reads commands from the terminal until the user exits.
+     *
+     * @param appParameters the command-line parameters given to the app
+     * @return the exit status of the run
+     */
+    public static int run(AppParameters appParameters) {
+
+        logger.info("==========================[ Running NOVA in the terminal ]===================");
+
+        AppCore core = AppCore.init(appParameters, false);
+        ReplMode replMode = new ReplMode(core.getModel(), core.getStorage());
+
+        return replMode.run(new BufferedReader(new InputStreamReader(System.in)), System.out);
+    }
+
+    /**
+     * Reads commands one line at a time and prints the result of each.
+     *
+     * @param in  the source of the commands
+     * @param out where the results are printed
+     * @return the exit status of the run
+     */
+    public int run(BufferedReader in, PrintStream out) {
+
+        out.println(MESSAGE_WELCOME);
+
+        try {
+            while (true) {
+                out.print(PROMPT);
+                out.flush();
+                String commandText = in.readLine();
+
+                if (commandText == null) {
+                    break;
+                }
+                if (commandText.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    CommandResult commandResult = logic.execute(commandText);
+                    out.println(commandResult.isShowHelp() ? MESSAGE_HELP : commandResult.getFeedbackToUser());
+
+                    if (commandResult.isExit()) {
+                        break;
+                    }
+                } catch (CommandException | ParseException e) {
+                    out.println(e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to read command " + StringUtil.getDetails(e));
+        }
+
+        try {
+            storage.saveCalendar(model.getCalendar());
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save calendar " + StringUtil.getDetails(e));
+            return ExitStatus.IO_ERROR;
+        }
+
+        return ExitStatus.SUCCESS;
+    }
+
+}
@@ -15,6 +15,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean compactJsonOutput = false;
 
     public Level getLogLevel() {
 
@@ -36,6 +37,16 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isCompactJsonOutput() {
+
+        return compactJsonOutput;
+    }
+
+    public void setCompactJsonOutput(boolean compactJsonOutput) {
+
+        this.compactJsonOutput = compactJsonOutput;
+    }
+
     @Override
     public boolean equals(Object other) {
 
@@ -49,13 +60,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && compactJsonOutput == o.compactJsonOutput;
     }
 
     @Override
     public int hashCode() {
 
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, compactJsonOutput);
     }
 
     @Override
@@ -64,6 +76,7 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nCompact json output : " + compactJsonOutput);
         return sb.toString();
     }
 
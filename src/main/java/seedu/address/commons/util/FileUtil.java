@@ -1,17 +1,43 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    // Files at least this large are mapped into memory when read, rather than copied onto the heap
+    private static final long MAPPED_READ_THRESHOLD = 1024 * 1024;
+
+    // Windows does not let a mapped file be replaced, and a mapping is only released once it is garbage collected,
+    // so a file read that way could not be saved again for a while
+    private static final boolean CAN_REPLACE_MAPPED_FILES = !System.getProperty("os.name", "").startsWith("Windows");
 
     /**
      * Checks if file exists.
@@ -98,6 +124,113 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens a file for reading through a buffer. A file compressed with GZIP is recognised by its first bytes, whatever
+     * its extension, and is decompressed as it is read.
+     *
+     * @param file the file
+     * @return the stream of the content of the file
+     * @throws IOException the io exception
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+
+        Optional<ByteBuffer> mappedFile = mapIfLarge(file);
+
+        if (mappedFile.isPresent()) {
+            return new ByteBufferInputStream(mappedFile.get());
+        }
+
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE);
+
+        try {
+            in.mark(2);
+            int firstByte = in.read();
+            int secondByte = in.read();
+            in.reset();
+
+            if (isCompressed(firstByte, secondByte)) {
+                return new GZIPInputStream(in, READ_BUFFER_SIZE);
+            }
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the whole content of a file into a buffer, decompressing it if it is compressed with GZIP.
+     * A large uncompressed file is mapped into memory instead of being copied onto the heap, so that its content is
+     * paged in from the file as it is parsed.
+     *
+     * @param file the file
+     * @return the buffer holding the content of the file
+     * @throws IOException the io exception
+     */
+    public static ByteBuffer readToBuffer(Path file) throws IOException {
+
+        Optional<ByteBuffer> mappedFile = mapIfLarge(file);
+
+        if (mappedFile.isPresent()) {
+            return mappedFile.get();
+        }
+
+        try (InputStream in = openForReading(file)) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+
+    /**
+     * Maps a file into memory if it is large enough to be worth it, it is not compressed, and it can still be
+     * replaced on this platform while it is mapped.
+     */
+    private static Optional<ByteBuffer> mapIfLarge(Path file) throws IOException {
+
+        if (!CAN_REPLACE_MAPPED_FILES || Files.size(file) < MAPPED_READ_THRESHOLD) {
+            return Optional.empty();
+        }
+
+        ByteBuffer mappedFile;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            mappedFile = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (isCompressed(mappedFile.get(0) & 0xff, mappedFile.get(1) & 0xff)) {
+            return Optional.empty();
+        }
+        return Optional.of(mappedFile);
+    }
+
+    private static boolean isCompressed(int firstByte, int secondByte) {
+
+        return firstByte == (GZIPInputStream.GZIP_MAGIC & 0xff) && secondByte == (GZIPInputStream.GZIP_MAGIC >>> 8);
+    }
+
+    /**
+     * Checks if a file is to be written compressed with GZIP, which is picked by its extension.
+     *
+     * @param file the file
+     * @return true if the file has the extension of a compressed file
+     */
+    public static boolean isCompressedFile(Path file) {
+
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Gets the file name without the extension of a compressed file, if it has one.
+     *
+     * @param file the file
+     * @return the name of the file before compression
+     */
+    public static String getUncompressedFileName(Path file) {
+
+        String fileName = file.getFileName().toString();
+        return isCompressedFile(file)
+                ? fileName.substring(0, fileName.length() - COMPRESSED_FILE_EXTENSION.length())
+                : fileName;
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -111,4 +244,146 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file, replacing the file in a single step so that a crash during the write leaves
+     * either the old or the new content, never a partly written file.
+     * The content is written to a temporary file in the same directory and forced onto the disk, before it is moved
+     * over the file. The previous content of the file is kept as a backup beside it.
+     * Will create the file if it does not exist yet.
+     *
+     * @param file    the file
+     * @param content the content
+     * @throws IOException the io exception
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, replacing the file in a single step as in
+     * {@link #writeToFileAtomically(Path, String)}. The content is streamed to the disk through a buffer, so it never
+     * needs to be held in memory as a whole. It is compressed with GZIP on the way if the file has the extension of a
+     * compressed file.
+     *
+     * @param file          the file
+     * @param contentWriter writes the content to the stream it is given
+     * @throws IOException the io exception
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+
+        Path tempFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName() + ".",
+                TEMP_FILE_SUFFIX);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+
+                if (isCompressedFile(absoluteFile)) {
+                    GZIPOutputStream compressedOut = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+                    contentWriter.writeTo(compressedOut);
+                    compressedOut.finish();
+                } else {
+                    contentWriter.writeTo(out);
+                }
+                out.flush();
+                channel.force(true);
+            }
+
+            if (isFileExists(absoluteFile)) {
+                backUp(absoluteFile);
+            }
+
+            try {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Gets the path of the backup kept beside a file that is written atomically.
+     *
+     * @param file the file
+     * @return the path of the backup
+     */
+    public static Path getBackupPath(Path file) {
+
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX);
+    }
+
+    /**
+     * Replaces the backup of the file with its current content. A hard link is used where the file system allows it,
+     * as the file is about to be replaced rather than modified.
+     */
+    private static void backUp(Path file) throws IOException {
+
+        Path backup = getBackupPath(file);
+        Files.deleteIfExists(backup);
+
+        try {
+            Files.createLink(backup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+
+        void writeTo(OutputStream out) throws IOException;
+
+    }
+
+    /**
+     * Reads the content of a buffer as a stream, without copying it.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int bytesRead = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, bytesRead);
+            return bytesRead;
+        }
+
+        @Override
+        public int available() {
+
+            return buffer.remaining();
+        }
+
+    }
+
 }
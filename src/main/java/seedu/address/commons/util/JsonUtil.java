@@ -3,22 +3,29 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 
@@ -38,15 +45,44 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Readers and writers are immutable and thread-safe, so they are built once and shared
+    private static final ObjectWriter prettyWriter = objectMapper.writerWithDefaultPrettyPrinter()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final ObjectWriter compactWriter = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private static volatile boolean isCompactOutput = false;
+
+    /**
+     * Initializes with the output format given in the config.
+     * Json files saved after this initialization will be written in the compact format if the config asks for it.
+     *
+     * @param config the config
+     */
+    public static void init(Config config) {
+
+        isCompactOutput = config.isCompactJsonOutput();
+        logger.info("compactJsonOutput: " + isCompactOutput);
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
 
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        ObjectWriter writer = isCompactOutput ? compactWriter : prettyWriter;
+        FileUtil.writeToFileAtomically(jsonFile, out -> writer.writeValue(out, objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
 
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream in = FileUtil.openForReading(jsonFile)) {
+            return getReader(classOfObjectToDeserialize).readValue(in);
+        }
+    }
+
+    private static ObjectReader getReader(Class<?> instanceClass) {
+
+        return readers.computeIfAbsent(instanceClass, objectMapper::readerFor);
     }
 
     /**
@@ -81,7 +117,8 @@ public class JsonUtil {
 
     /**
      * Saves the Json object to the specified file.
-     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * Atomically replaces the existing file if it exists, keeping its previous content as a backup, and creates a new
+     * file if it doesn't.
      *
      * @param jsonFile cannot be null
      * @param filePath cannot be null
@@ -104,7 +141,7 @@ public class JsonUtil {
      */
     public static <T> T fromJsonString(String json, Class<T> instanceClass) throws IOException {
 
-        return objectMapper.readValue(json, instanceClass);
+        return getReader(instanceClass).readValue(json);
     }
 
     /**
@@ -116,7 +153,20 @@ public class JsonUtil {
      */
     public static <T> String toJsonString(T instance) throws JsonProcessingException {
 
-        return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
+        return prettyWriter.writeValueAsString(instance);
+    }
+
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without any
+     * whitespace.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return compact JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+
+        return compactWriter.writeValueAsString(instance);
     }
 
     /**
@@ -1,9 +1,10 @@
 package seedu.address.logic;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
-
-import javafx.collections.ObservableList;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
@@ -28,18 +29,40 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be told, with a message for the user, when a save made in the background fails.
+     *
+     * @param saveFailureHandler the handler of the failure messages
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Gets the number of commands after which the calendar was not saved, as they did not change it.
+     *
+     * @return the number of saves skipped
+     */
+    int getSkippedSaveCount();
+
     //=========== Calendar =============================================================
 
-    ObservableList<Activity> getFilteredActivityList();
+    List<Activity> getFilteredActivityList();
 
-    ObservableList<Task> getFilteredTaskList();
+    List<Task> getFilteredTaskList();
 
     Optional<Activity> getNextActivity();
 
+    Optional<Activity> getNextLoadedActivity();
+
     int calculateWeekNumber(LocalDate refDate);
 
     TaskCompletionStatistics getTaskCompletionStats();
 
+    TaskCompletionStatistics getTaskCompletionStats(int fromWeekNum, int toWeekNum);
+
+    TaskCompletionStatistics getLoadedTaskCompletionStats(int fromWeekNum, int toWeekNum);
+
+    CompletableFuture<Void> getPendingWeeksRead();
+
     //===================================================================================
 
     GuiSettings getGuiSettings();
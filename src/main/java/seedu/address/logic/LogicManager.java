@@ -2,11 +2,12 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
@@ -31,6 +32,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final NovaParser novaParser;
+    private int skippedSaveCount = 0;
 
     public LogicManager(Model model, Storage storage) {
 
@@ -46,8 +48,15 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = novaParser.parseCommand(commandText);
+        long modificationCount = model.getCalendar().getModificationCount();
         commandResult = command.execute(model);
 
+        if (model.getCalendar().getModificationCount() == modificationCount) {
+            // The command did not change the calendar, so there is nothing new to save
+            skippedSaveCount++;
+            return commandResult;
+        }
+
         try {
             storage.saveCalendar(model.getCalendar());
         } catch (IOException ioe) {
@@ -57,16 +66,28 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+
+        storage.setSaveFailureHandler(ioe -> saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public int getSkippedSaveCount() {
+
+        return skippedSaveCount;
+    }
+
     //=========== Calendar =============================================================
 
     @Override
-    public ObservableList<Activity> getFilteredActivityList() {
+    public List<Activity> getFilteredActivityList() {
 
         return model.getFilteredActivityList();
     }
 
     @Override
-    public ObservableList<Task> getFilteredTaskList() {
+    public List<Task> getFilteredTaskList() {
 
         return model.getFilteredTaskList();
     }
@@ -77,6 +98,12 @@ public class LogicManager implements Logic {
         return model.getNextActivity();
     }
 
+    @Override
+    public Optional<Activity> getNextLoadedActivity() {
+
+        return model.getNextLoadedActivity();
+    }
+
     @Override
     public int calculateWeekNumber(LocalDate refDate) {
 
@@ -89,6 +116,24 @@ public class LogicManager implements Logic {
         return model.getTaskCompletionStats();
     }
 
+    @Override
+    public TaskCompletionStatistics getTaskCompletionStats(int fromWeekNum, int toWeekNum) {
+
+        return model.getTaskCompletionStats(fromWeekNum, toWeekNum);
+    }
+
+    @Override
+    public TaskCompletionStatistics getLoadedTaskCompletionStats(int fromWeekNum, int toWeekNum) {
+
+        return model.getLoadedTaskCompletionStats(fromWeekNum, toWeekNum);
+    }
+
+    @Override
+    public CompletableFuture<Void> getPendingWeeksRead() {
+
+        return model.getPendingWeeksRead();
+    }
+
     //=============================================================================================================
 
     @Override
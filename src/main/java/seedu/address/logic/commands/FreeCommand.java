@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.constants.Messages.MESSAGE_DATE_OUT_OF_BOUND;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_DURATION;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_END_DATE;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_END_TIME;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_MAX_SLOTS;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_START_DATE;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_START_TIME;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.calendar.FreeSlot;
+
+/**
+ * Represents the command to find the earliest free slots within a range of dates.
+ */
+public class FreeCommand extends Command {
+
+    public static final String COMMAND_WORD = "free";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the earliest free slots that last at least the given duration.\n"
+            + "Parameters: "
+            + PREFIX_START_DATE + "START_DATE (dd/mm/yyyy) "
+            + PREFIX_END_DATE + "END_DATE (dd/mm/yyyy) "
+            + PREFIX_DURATION + "MINUTES "
+            + "[" + PREFIX_START_TIME + "DAY_START_TIME (hh:mm)] "
+            + "[" + PREFIX_END_TIME + "DAY_END_TIME (hh:mm)] "
+            + "[" + PREFIX_MAX_SLOTS + "MAX_SLOTS] \n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_START_DATE + "13/01/2020 "
+            + PREFIX_END_DATE + "17/01/2020 "
+            + PREFIX_DURATION + "120 "
+            + PREFIX_START_TIME + "09:00 "
+            + PREFIX_END_TIME + "18:00 \n";
+
+    public static final String MESSAGE_SUCCESS = "Free slots: \n%1$s";
+    public static final String MESSAGE_NO_FREE_SLOT = "There is no free slot of at least %1$d minutes in that range.";
+    public static final String MESSAGE_INVALID_DATE_RANGE = "The start date cannot be after the end date.";
+    public static final String MESSAGE_INVALID_TIME_RANGE = "The start time has to be before the end time.";
+
+    public static final LocalTime DEFAULT_DAY_START_TIME = LocalTime.MIDNIGHT;
+    // The end of the day, so that the last minute of the day can be free as well
+    public static final LocalTime DEFAULT_DAY_END_TIME = LocalTime.MAX;
+    public static final int DEFAULT_MAX_SLOTS = 5;
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Duration minDuration;
+    private final LocalTime dayStartTime;
+    private final LocalTime dayEndTime;
+    private final int maxSlots;
+
+    /**
+     * Instantiates a new Free command.
+     *
+     * @param startDate    the first date to search
+     * @param endDate      the last date to search
+     * @param minDuration  the minimum duration of a free slot
+     * @param dayStartTime the start of the hours to search within each day
+     * @param dayEndTime   the end of the hours to search within each day
+     * @param maxSlots     the maximum number of free slots to find
+     */
+    public FreeCommand(LocalDate startDate, LocalDate endDate, Duration minDuration, LocalTime dayStartTime,
+                       LocalTime dayEndTime, int maxSlots) {
+
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        requireNonNull(minDuration);
+        requireNonNull(dayStartTime);
+        requireNonNull(dayEndTime);
+
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.minDuration = minDuration;
+        this.dayStartTime = dayStartTime;
+        this.dayEndTime = dayEndTime;
+        this.maxSlots = maxSlots;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+
+        requireNonNull(model);
+
+        if (!model.isWithinCalendarTime(startDate) || !model.isWithinCalendarTime(endDate)) {
+            throw new CommandException(MESSAGE_DATE_OUT_OF_BOUND);
+        }
+
+        if (startDate.isAfter(endDate)) {
+            throw new CommandException(MESSAGE_INVALID_DATE_RANGE);
+        }
+
+        if (!dayStartTime.isBefore(dayEndTime)) {
+            throw new CommandException(MESSAGE_INVALID_TIME_RANGE);
+        }
+
+        List<FreeSlot> freeSlots =
+                model.findFreeSlots(startDate, endDate, minDuration, dayStartTime, dayEndTime, maxSlots);
+
+        if (freeSlots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_FREE_SLOT, minDuration.toMinutes()));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (FreeSlot freeSlot : freeSlots) {
+            sb.append(freeSlot);
+            sb.append("\n");
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, sb));
+    }
+
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_FROM_WEEK;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_NUMBER_OF_WEEKS;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_TO_WEEK;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.calendar.task.TaskCompletionStatistics;
+
+/**
+ * Represents the command to show the task completion statistics across a range of weeks, and the trend over the last
+ * few weeks.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the tasks completed between two weeks, and the trend over the last few weeks.\n"
+            + "Parameters: "
+            + "[" + PREFIX_FROM_WEEK + "WEEK] "
+            + "[" + PREFIX_TO_WEEK + "WEEK] "
+            + "[" + PREFIX_NUMBER_OF_WEEKS + "NUMBER_OF_WEEKS] \n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_FROM_WEEK + "1 "
+            + PREFIX_TO_WEEK + "6 "
+            + PREFIX_NUMBER_OF_WEEKS + "3";
+
+    public static final String MESSAGE_INVALID_RANGE = "The first week cannot be after the last week.";
+    public static final String MESSAGE_SUCCESS = "Tasks completed from week %1$d to week %2$d: %3$s (%4$s)\n"
+            + "Trend over the last %5$d weeks:\n%6$s";
+    public static final String MESSAGE_WEEK_STATISTICS = "Week %1$d: %2$s\n";
+
+    public static final int DEFAULT_NUMBER_OF_WEEKS = 4;
+
+    private final Optional<Integer> fromWeekNum;
+    private final Optional<Integer> toWeekNum;
+    private final int numberOfWeeks;
+
+    /**
+     * Instantiates a new Stats command. The range defaults to the start of the semester up to this week.
+     *
+     * @param fromWeekNum   the first week of the range
+     * @param toWeekNum     the last week of the range
+     * @param numberOfWeeks the number of weeks in the trend
+     */
+    public StatsCommand(Optional<Integer> fromWeekNum, Optional<Integer> toWeekNum, int numberOfWeeks) {
+
+        requireNonNull(fromWeekNum);
+        requireNonNull(toWeekNum);
+        this.fromWeekNum = fromWeekNum;
+        this.toWeekNum = toWeekNum;
+        this.numberOfWeeks = numberOfWeeks;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+
+        requireNonNull(model);
+
+        int thisWeekNum = model.calculateWeekNumber(LocalDate.now()) + 1; // calculateWeekNumber() is zero-indexed
+        int from = fromWeekNum.orElse(1);
+        int to = toWeekNum.orElse(Math.max(thisWeekNum, from));
+
+        if (from > to) {
+            throw new CommandException(MESSAGE_INVALID_RANGE);
+        }
+
+        TaskCompletionStatistics rangeStats = model.getTaskCompletionStats(from, to);
+        List<TaskCompletionStatistics> trend = model.getTaskCompletionTrend(numberOfWeeks);
+
+        StringBuilder sb = new StringBuilder();
+        int weekNum = thisWeekNum - numberOfWeeks + 1;
+        for (TaskCompletionStatistics weekStats : trend) {
+            sb.append(String.format(MESSAGE_WEEK_STATISTICS, weekNum++, weekStats.asFraction()));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, from, to, rangeStats.asFraction(),
+                rangeStats.asPercentage(), numberOfWeeks, sb));
+    }
+
+}
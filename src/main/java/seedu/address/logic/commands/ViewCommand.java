@@ -6,8 +6,7 @@ import static seedu.address.logic.constants.Messages.MESSAGE_NO_ACTIVITY;
 import static seedu.address.logic.constants.PrefixConstants.PREFIX_DATE;
 
 import java.time.LocalDate;
-
-import javafx.collections.ObservableList;
+import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -49,7 +48,7 @@ public class ViewCommand extends Command {
             throw new CommandException(MESSAGE_DATE_OUT_OF_BOUND);
         }
 
-        ObservableList<Activity> activities = model.viewActivityOnDate(toView);
+        List<Activity> activities = model.viewActivityOnDate(toView);
         if (activities.isEmpty()) {
             return new CommandResult(MESSAGE_NO_ACTIVITY);
         }
@@ -11,6 +11,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_PERSONS_LISTED_OVERVIEW = "%1$d persons listed!";
+    public static final String USERGUIDE_URL = "https://github.com/xCelestialPhoenix/NOVA/"
+            + "blob/master/docs/UserGuide.adoc";
 
     // =============================== Calendar ===============================
 
@@ -22,5 +22,12 @@ public class PrefixConstants {
     public static final Prefix PREFIX_START_TIME = new Prefix("st/");
     public static final Prefix PREFIX_END_TIME = new Prefix("et/");
     public static final Prefix PREFIX_NOTES = new Prefix("n/");
+    public static final Prefix PREFIX_FROM_WEEK = new Prefix("from/");
+    public static final Prefix PREFIX_TO_WEEK = new Prefix("to/");
+    public static final Prefix PREFIX_NUMBER_OF_WEEKS = new Prefix("last/");
+    public static final Prefix PREFIX_START_DATE = new Prefix("sd/");
+    public static final Prefix PREFIX_END_DATE = new Prefix("ed/");
+    public static final Prefix PREFIX_DURATION = new Prefix("dur/");
+    public static final Prefix PREFIX_MAX_SLOTS = new Prefix("max/");
 
 }
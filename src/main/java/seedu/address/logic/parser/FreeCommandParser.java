@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.constants.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_DURATION;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_END_DATE;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_END_TIME;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_MAX_SLOTS;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_START_DATE;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_START_TIME;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import seedu.address.logic.commands.FreeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The type Free command parser.
+ */
+public class FreeCommandParser implements Parser<FreeCommand> {
+
+    @Override
+    public FreeCommand parse(String args) throws ParseException {
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_START_DATE, PREFIX_END_DATE,
+                PREFIX_DURATION, PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_MAX_SLOTS);
+
+        if (!ParserUtil.arePrefixesPresent(argMultimap, PREFIX_START_DATE, PREFIX_END_DATE, PREFIX_DURATION)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeCommand.MESSAGE_USAGE));
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_START_DATE).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END_DATE).get());
+        Duration minDuration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        LocalTime dayStartTime = FreeCommand.DEFAULT_DAY_START_TIME;
+        LocalTime dayEndTime = FreeCommand.DEFAULT_DAY_END_TIME;
+        int maxSlots = FreeCommand.DEFAULT_MAX_SLOTS;
+
+        if (argMultimap.getValue(PREFIX_START_TIME).isPresent()) {
+            dayStartTime = ParserUtil.parseTime(argMultimap.getValue(PREFIX_START_TIME).get());
+        }
+
+        if (argMultimap.getValue(PREFIX_END_TIME).isPresent()) {
+            dayEndTime = ParserUtil.parseTime(argMultimap.getValue(PREFIX_END_TIME).get());
+        }
+
+        if (argMultimap.getValue(PREFIX_MAX_SLOTS).isPresent()) {
+            maxSlots = ParserUtil.parseMaxSlots(argMultimap.getValue(PREFIX_MAX_SLOTS).get());
+        }
+
+        return new FreeCommand(startDate, endDate, minDuration, dayStartTime, dayEndTime, maxSlots);
+    }
+
+}
@@ -1,8 +1,11 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.constants.CalendarConstants.WEEKS_PER_SEMESTER;
+import static seedu.address.model.calendar.activity.OccupancyBitmap.MINUTES_PER_DAY;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
@@ -19,6 +22,14 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_DAY = "The day is not recognized.";
     public static final String MESSAGE_INVALID_DATE = "The date is invalid. Please enter in the form dd/mm/yyyy.";
     public static final String MESSAGE_INVALID_TIME = "The time is invalid. Please enter in the form hh:mm.";
+    public static final String MESSAGE_INVALID_WEEK = "The week is invalid. Please enter a week from 1 to "
+            + WEEKS_PER_SEMESTER + ".";
+    public static final String MESSAGE_INVALID_DURATION = "The duration is invalid. Please enter the number of "
+            + "minutes, up to a day.";
+    public static final String MESSAGE_INVALID_MAX_SLOTS = "The number of slots is invalid. "
+            + "Please enter a positive number.";
+    public static final String MESSAGE_INVALID_NUMBER_OF_WEEKS = "The number of weeks is invalid. "
+            + "Please enter a number from 1 to " + WEEKS_PER_SEMESTER + ".";
 
     /**
      * Parse date local date.
@@ -74,6 +85,78 @@ public class ParserUtil {
         }
     }
 
+    /**
+     * Parse week number int.
+     *
+     * @param weekNum the week number
+     * @return the week number
+     * @throws ParseException the parse exception
+     */
+    public static int parseWeekNumber(String weekNum) throws ParseException {
+
+        requireNonNull(weekNum);
+        return parseWithinSemester(weekNum, MESSAGE_INVALID_WEEK);
+    }
+
+    /**
+     * Parse number of weeks int.
+     *
+     * @param numberOfWeeks the number of weeks
+     * @return the number of weeks
+     * @throws ParseException the parse exception
+     */
+    public static int parseNumberOfWeeks(String numberOfWeeks) throws ParseException {
+
+        requireNonNull(numberOfWeeks);
+        return parseWithinSemester(numberOfWeeks, MESSAGE_INVALID_NUMBER_OF_WEEKS);
+    }
+
+    /**
+     * Parse duration in minutes.
+     *
+     * @param duration the duration in minutes
+     * @return the duration
+     * @throws ParseException the parse exception
+     */
+    public static Duration parseDuration(String duration) throws ParseException {
+
+        requireNonNull(duration);
+
+        try {
+            int minutes = Integer.parseInt(duration.trim());
+
+            if (minutes < 1 || minutes > MINUTES_PER_DAY) {
+                throw new ParseException(MESSAGE_INVALID_DURATION);
+            }
+            return Duration.ofMinutes(minutes);
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+    }
+
+    /**
+     * Parse the maximum number of slots.
+     *
+     * @param maxSlots the maximum number of slots
+     * @return the maximum number of slots
+     * @throws ParseException the parse exception
+     */
+    public static int parseMaxSlots(String maxSlots) throws ParseException {
+
+        requireNonNull(maxSlots);
+
+        try {
+            int parsed = Integer.parseInt(maxSlots.trim());
+
+            if (parsed < 1) {
+                throw new ParseException(MESSAGE_INVALID_MAX_SLOTS);
+            }
+            return parsed;
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(MESSAGE_INVALID_MAX_SLOTS);
+        }
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -83,4 +166,18 @@ public class ParserUtil {
         return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
     }
 
+    private static int parseWithinSemester(String number, String errorMessage) throws ParseException {
+
+        try {
+            int parsed = Integer.parseInt(number.trim());
+
+            if (parsed < 1 || parsed > WEEKS_PER_SEMESTER) {
+                throw new ParseException(errorMessage);
+            }
+            return parsed;
+        } catch (NumberFormatException nfe) {
+            throw new ParseException(errorMessage);
+        }
+    }
+
 }
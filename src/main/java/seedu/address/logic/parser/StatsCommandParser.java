@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.constants.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_FROM_WEEK;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_NUMBER_OF_WEEKS;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_TO_WEEK;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * The type Stats command parser.
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_FROM_WEEK, PREFIX_TO_WEEK, PREFIX_NUMBER_OF_WEEKS);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+
+        Optional<Integer> fromWeekNum = Optional.empty();
+        Optional<Integer> toWeekNum = Optional.empty();
+        int numberOfWeeks = StatsCommand.DEFAULT_NUMBER_OF_WEEKS;
+
+        if (argMultimap.getValue(PREFIX_FROM_WEEK).isPresent()) {
+            fromWeekNum = Optional.of(ParserUtil.parseWeekNumber(argMultimap.getValue(PREFIX_FROM_WEEK).get()));
+        }
+
+        if (argMultimap.getValue(PREFIX_TO_WEEK).isPresent()) {
+            toWeekNum = Optional.of(ParserUtil.parseWeekNumber(argMultimap.getValue(PREFIX_TO_WEEK).get()));
+        }
+
+        if (argMultimap.getValue(PREFIX_NUMBER_OF_WEEKS).isPresent()) {
+            numberOfWeeks = ParserUtil.parseNumberOfWeeks(argMultimap.getValue(PREFIX_NUMBER_OF_WEEKS).get());
+        }
+
+        return new StatsCommand(fromWeekNum, toWeekNum, numberOfWeeks);
+    }
+
+}
@@ -1,12 +1,15 @@
 package seedu.address.model;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
-
-import javafx.collections.ObservableList;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.calendar.FreeSlot;
 import seedu.address.model.calendar.ReadOnlyCalendar;
 import seedu.address.model.calendar.activity.Activity;
 import seedu.address.model.calendar.activity.ActivityReference;
@@ -56,11 +59,11 @@ public interface Model {
 
     Optional<Task> deleteTask(TaskReference taskReference);
 
-    ObservableList<Activity> viewActivityOnDate(LocalDate date);
+    List<Activity> viewActivityOnDate(LocalDate date);
 
-    ObservableList<Activity> getFilteredActivityList();
+    List<Activity> getFilteredActivityList();
 
-    ObservableList<Task> getFilteredTaskList();
+    List<Task> getFilteredTaskList();
 
     boolean hasActivity(Activity activity);
 
@@ -76,8 +79,21 @@ public interface Model {
 
     Optional<Activity> getNextActivity();
 
+    Optional<Activity> getNextLoadedActivity();
+
+    List<FreeSlot> findFreeSlots(LocalDate startDate, LocalDate endDate, Duration minDuration,
+                                 LocalTime dayStartTime, LocalTime dayEndTime, int maxSlots);
+
     int calculateWeekNumber(LocalDate refDate);
 
     TaskCompletionStatistics getTaskCompletionStats();
 
+    TaskCompletionStatistics getTaskCompletionStats(int fromWeekNum, int toWeekNum);
+
+    TaskCompletionStatistics getLoadedTaskCompletionStats(int fromWeekNum, int toWeekNum);
+
+    List<TaskCompletionStatistics> getTaskCompletionTrend(int numberOfWeeks);
+
+    CompletableFuture<Void> getPendingWeeksRead();
+
 }
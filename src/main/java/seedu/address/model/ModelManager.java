@@ -5,16 +5,18 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.calendar.Calendar.CALENDAR_DEFAULT_START_DATE;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.FreeSlot;
 import seedu.address.model.calendar.ReadOnlyCalendar;
 import seedu.address.model.calendar.activity.Activity;
 import seedu.address.model.calendar.activity.ActivityReference;
@@ -162,19 +164,19 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public ObservableList<Activity> viewActivityOnDate(LocalDate date) {
+    public List<Activity> viewActivityOnDate(LocalDate date) {
 
         return calendar.viewActivityOnDate(date);
     }
 
     @Override
-    public ObservableList<Activity> getFilteredActivityList() {
+    public List<Activity> getFilteredActivityList() {
 
-        return new FilteredList<>(calendar.viewActivityOnDate(LocalDate.now()));
+        return calendar.viewActivityOnDate(LocalDate.now());
     }
 
     @Override
-    public ObservableList<Task> getFilteredTaskList() {
+    public List<Task> getFilteredTaskList() {
 
         return calendar.getWeekTaskList();
     }
@@ -185,6 +187,19 @@ public class ModelManager implements Model {
         return calendar.getNextActivity();
     }
 
+    @Override
+    public Optional<Activity> getNextLoadedActivity() {
+
+        return calendar.getNextLoadedActivity();
+    }
+
+    @Override
+    public List<FreeSlot> findFreeSlots(LocalDate startDate, LocalDate endDate, Duration minDuration,
+                                        LocalTime dayStartTime, LocalTime dayEndTime, int maxSlots) {
+
+        return calendar.findFreeSlots(startDate, endDate, minDuration, dayStartTime, dayEndTime, maxSlots);
+    }
+
     @Override
     public int calculateWeekNumber(LocalDate refDate) {
 
@@ -197,6 +212,30 @@ public class ModelManager implements Model {
         return calendar.getTaskCompletionStats();
     }
 
+    @Override
+    public TaskCompletionStatistics getTaskCompletionStats(int fromWeekNum, int toWeekNum) {
+
+        return calendar.getTaskCompletionStats(fromWeekNum, toWeekNum);
+    }
+
+    @Override
+    public TaskCompletionStatistics getLoadedTaskCompletionStats(int fromWeekNum, int toWeekNum) {
+
+        return calendar.getLoadedTaskCompletionStats(fromWeekNum, toWeekNum);
+    }
+
+    @Override
+    public List<TaskCompletionStatistics> getTaskCompletionTrend(int numberOfWeeks) {
+
+        return calendar.getTaskCompletionTrend(numberOfWeeks);
+    }
+
+    @Override
+    public CompletableFuture<Void> getPendingWeeksRead() {
+
+        return calendar.getPendingWeeksRead();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
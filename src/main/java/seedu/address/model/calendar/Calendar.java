@@ -2,29 +2,48 @@ package seedu.address.model.calendar;
 
 import static java.time.temporal.ChronoUnit.DAYS;
 import static seedu.address.logic.constants.CalendarConstants.DAYS_PER_WEEK;
-import static seedu.address.logic.constants.CalendarConstants.READING_WEEK;
-import static seedu.address.logic.constants.CalendarConstants.RECESS_WEEK;
 import static seedu.address.logic.constants.CalendarConstants.WEEKS_PER_SEMESTER;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.calendar.activity.Activity;
 import seedu.address.model.calendar.activity.ActivityReference;
 import seedu.address.model.calendar.activity.Lesson;
-import seedu.address.model.calendar.activity.UniqueActivityList;
+import seedu.address.model.calendar.activity.OccupancyBitmap;
+import seedu.address.model.calendar.task.SemesterTaskStatistics;
 import seedu.address.model.calendar.task.Task;
 import seedu.address.model.calendar.task.TaskCompletionStatistics;
 import seedu.address.model.calendar.task.TaskReference;
-import seedu.address.model.calendar.task.UniqueTaskList;
 import seedu.address.model.calendar.task.exceptions.RepeatedCompleteException;
 
 /**
  * The Calendar feature within NOVA.
+ * <p>
+ * The weeks are stored sparsely, keyed by their zero-indexed week number. A week is only allocated the first time it
+ * is written to or viewed, so empty stretches of the calendar take up no memory.
+ * <p>
+ * Weeks may also be left pending while storage reads them in the background. A pending week is loaded the first time
+ * it is needed, waiting only for its own read to finish, and the operations that span the whole calendar wait for
+ * every pending week. A pending week that cannot be read is recorded as unreadable, so that storage keeps what it
+ * holds for the week rather than overwriting it.
  */
 public class Calendar implements ReadOnlyCalendar {
 
@@ -32,9 +51,24 @@ public class Calendar implements ReadOnlyCalendar {
 
     private static final DayOfWeek FIRST_DAY_OF_WEEK = DayOfWeek.MONDAY;
 
+    // Past this, the pending changes are collapsed into a reset, so that they cannot grow without bound
+    private static final int MAX_PENDING_CHANGES = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(Calendar.class);
+
     private LocalDate startDate;
     private LocalDate endDate;
-    private Week[] weeks = new Week[WEEKS_PER_SEMESTER];
+    private NavigableMap<Integer, Week> weeks = new TreeMap<>();
+    private Timetable timetable = new Timetable();
+    private UpcomingActivities upcomingActivities = new UpcomingActivities(this);
+    private SemesterTaskStatistics semesterTaskStats = new SemesterTaskStatistics();
+    private List<CalendarChange> pendingChanges = new ArrayList<>();
+    private long modificationCount = 0;
+
+    // The weeks still being read from storage, keyed by their zero-indexed week number
+    private NavigableMap<Integer, CompletableFuture<WeekLoader>> pendingWeeks = new TreeMap<>();
+    private Set<Integer> unreadableWeeks = new TreeSet<>();
+    private boolean isLoadingWeek = false;
 
     /**
      * Instantiates a new calendar starting from the start date.
@@ -45,14 +79,18 @@ public class Calendar implements ReadOnlyCalendar {
 
         this.startDate = startDate;
         this.endDate = calculateEndDate(startDate);
-        initWeeks();
     }
 
     public Calendar(ReadOnlyCalendar calendar) {
 
         startDate = calendar.getStartDate();
         endDate = calendar.getEndDate();
-        weeks = calendar.getWeeks();
+        weeks = calendar.getLoadedWeeks();
+        pendingWeeks = getPendingWeeks(calendar);
+        unreadableWeeks = getUnreadableWeeks(calendar);
+        timetable = calendar.getTimetable();
+        indexUpcomingActivities();
+        indexTaskStatistics();
     }
 
     /**
@@ -64,7 +102,14 @@ public class Calendar implements ReadOnlyCalendar {
 
         startDate = calendar.getStartDate();
         endDate = calendar.getEndDate();
-        weeks = calendar.getWeeks();
+        pendingWeeks.values().forEach(pendingWeek -> pendingWeek.cancel(false));
+        weeks = calendar.getLoadedWeeks();
+        pendingWeeks = getPendingWeeks(calendar);
+        unreadableWeeks = getUnreadableWeeks(calendar);
+        timetable = calendar.getTimetable();
+        indexUpcomingActivities();
+        indexTaskStatistics();
+        recordChange(CalendarChange.reset());
     }
 
     //============================= Modifications ==============================
@@ -83,30 +128,48 @@ public class Calendar implements ReadOnlyCalendar {
         }
 
         int week = calculateWeek(activity.getDate()); // calculateWeek() returns zero-indexed week.
-        weeks[week].addActivity(activity);
+        getWeek(week).addActivity(activity);
+        upcomingActivities.add(activity);
+        recordChange(CalendarChange.addActivity(activity));
+    }
+
+    /**
+     * Adds activities other than lessons happening on a date into the calendar in one step, such as when the calendar
+     * is loaded. The activities must be sorted by start time, and must not overlap each other or the lessons of the
+     * date.
+     *
+     * @param date             the date of the activities
+     * @param sortedActivities the activities to be added, sorted by start time
+     */
+    public void addActivitiesOn(LocalDate date, List<Activity> sortedActivities) {
+
+        int week = calculateWeek(date); // calculateWeek() returns zero-indexed week.
+        getWeek(week).addActivitiesOn(date, sortedActivities);
+
+        for (Activity activity : sortedActivities) {
+            upcomingActivities.add(activity);
+            recordChange(CalendarChange.addActivity(activity));
+        }
     }
 
     /**
-     * Adds lessons into the calendar.
+     * Adds lessons into the calendar. The lesson is recorded once in the timetable, and only the days whose lessons
+     * have already been expanded receive a copy of it.
      *
      * @param lesson the lesson to be added
      */
     public void addLesson(Lesson lesson) {
 
-        // A simple loop across school weeks and adds an activity into each week to represent lesson
-        for (Week week : weeks) {
+        awaitAllWeeks();
+        timetable.addLesson(lesson);
 
-            if (week.getWeekNum() == RECESS_WEEK) {
-                // No lesson on recess week
-                continue;
+        for (Week week : weeks.values()) {
+            if (Timetable.isTeachingWeek(week.getWeekNum())) {
+                week.addActivity(lesson);
             }
-
-            if (week.getWeekNum() >= READING_WEEK) {
-                // No more lessons from read week onwards
-                break;
-            }
-            week.addActivity(lesson);
         }
+        upcomingActivities.add(lesson);
+        recordChange(CalendarChange.addActivity(onFirstWeek(lesson)));
     }
 
     /**
@@ -118,7 +181,19 @@ public class Calendar implements ReadOnlyCalendar {
     public Optional<Activity> deleteActivity(ActivityReference activityReference) {
 
         int week = calculateWeek(activityReference.getDate()); // calculateWeek() returns zero-indexed week.
-        return weeks[week].deleteActivity(activityReference);
+
+        // A week that has not been allocated only holds the lessons of the timetable
+        if (findWeek(week).isEmpty() && timetable.getLessonsOn(activityReference.getDate().getDayOfWeek(), week + 1)
+                .stream().noneMatch(lesson -> lesson.startsWith(activityReference))) {
+            return Optional.empty();
+        }
+
+        Optional<Activity> deletedActivity = getWeek(week).deleteActivity(activityReference);
+        deletedActivity.ifPresent(activity -> {
+            upcomingActivities.remove(activity);
+            recordChange(CalendarChange.deleteActivity(activity));
+        });
+        return deletedActivity;
     }
 
     // TODO: Possible enhancement - Delete Lesson
@@ -133,8 +208,9 @@ public class Calendar implements ReadOnlyCalendar {
     public void addTask(Task task) {
 
         int week = calculateWeek(task.getDueDate());
-        weeks[week].addTask(task);
-
+        getWeek(week).addTask(task);
+        semesterTaskStats.addTask(week + 1, task);
+        recordChange(CalendarChange.addTask(task));
     }
 
     /**
@@ -146,7 +222,12 @@ public class Calendar implements ReadOnlyCalendar {
     public Optional<Task> deleteTask(TaskReference taskReference) {
 
         int week = calculateWeek(taskReference.getDueDate()); // calculateWeek() returns zero-indexed week.
-        return weeks[week].deleteTask(taskReference);
+        Optional<Task> deletedTask = findWeek(week).flatMap(weekOfTask -> weekOfTask.deleteTask(taskReference));
+        deletedTask.ifPresent(task -> {
+            semesterTaskStats.deleteTask(week + 1, task);
+            recordChange(CalendarChange.deleteTask(task));
+        });
+        return deletedTask;
     }
 
     /**
@@ -159,7 +240,44 @@ public class Calendar implements ReadOnlyCalendar {
     public Optional<Task> completeTask(TaskReference taskReference) throws RepeatedCompleteException {
 
         int week = calculateWeek((taskReference.getDueDate()));
-        return weeks[week].completeTask(taskReference);
+        Optional<Week> weekOfTask = findWeek(week);
+
+        if (weekOfTask.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<Task> completedTask = weekOfTask.get().completeTask(taskReference);
+        completedTask.ifPresent(task -> {
+            semesterTaskStats.completeTask(week + 1);
+            recordChange(CalendarChange.completeTask(task));
+        });
+        return completedTask;
+    }
+
+    /**
+     * Adds a week that is still being read from storage in the background. The week is loaded into the calendar the
+     * first time it is needed.
+     *
+     * @param index       the zero-indexed week number
+     * @param pendingWeek the read of the week, which gives the loader of the week once it is done
+     */
+    public void addPendingWeek(int index, CompletableFuture<WeekLoader> pendingWeek) {
+
+        pendingWeeks.put(index, pendingWeek);
+    }
+
+    @Override
+    public List<CalendarChange> pollChanges() {
+
+        List<CalendarChange> changes = pendingChanges;
+        pendingChanges = new ArrayList<>();
+        return changes;
+    }
+
+    @Override
+    public long getModificationCount() {
+
+        return modificationCount;
     }
 
     //======================================= Getters ========================================
@@ -178,97 +296,174 @@ public class Calendar implements ReadOnlyCalendar {
     }
 
     @Override
-    public Week[] getWeeks() {
+    public NavigableMap<Integer, Week> getWeeks() {
 
+        awaitAllWeeks();
         return weeks;
     }
 
+    @Override
+    public NavigableMap<Integer, Week> getLoadedWeeks() {
+
+        return weeks;
+    }
+
+    @Override
+    public Set<Integer> getUnreadableWeeks() {
+
+        return Collections.unmodifiableSet(unreadableWeeks);
+    }
+
+    @Override
+    public CompletableFuture<Void> getPendingWeeksRead() {
+
+        // The reads that fail are recorded once their weeks are loaded
+        return CompletableFuture.allOf(pendingWeeks.values().toArray(CompletableFuture[]::new))
+                .exceptionally(unused -> null);
+    }
+
+    @Override
+    public Timetable getTimetable() {
+
+        return timetable;
+    }
+
     //==================== Activities ==================
 
     @Override
-    public ObservableList<Activity> getActivities() {
+    public List<Activity> getActivities() {
+
+        return streamActivities().collect(Collectors.toList());
+    }
 
-        ObservableList<Activity> activities = FXCollections.observableArrayList();
+    @Override
+    public Stream<Activity> streamActivities() {
 
-        for (Week week : weeks) {
-            activities.addAll(week.getActivities());
-        }
-        return activities;
+        awaitAllWeeks();
+        return Stream.concat(streamLessons(), weeks.values().stream().flatMap(Week::streamActivities));
     }
 
     @Override
-    public ObservableList<Activity> viewActivityOnDate(LocalDate date) {
+    public Stream<Lesson> streamLessons() {
+
+        // Each lesson is listed once, on its day in the first week, as it recurs across every teaching week.
+        return timetable.streamLessons().map(this::onFirstWeek);
+    }
+
+    @Override
+    public List<Activity> viewActivityOnDate(LocalDate date) {
 
         int weekNum = calculateWeek(date); // calculateWeek() returns zero-indexed week.
+        Optional<Week> week = findWeek(weekNum);
 
-        if (weekNum >= WEEKS_PER_SEMESTER || weekNum < 0) {
-            return new UniqueActivityList().asUnmodifiableObservableList();
+        if (week.isEmpty()) {
+            return timetable.getLessonsOn(date.getDayOfWeek(), weekNum + 1).stream()
+                    .map(lesson -> new Lesson((Lesson) lesson, date))
+                    .collect(Collectors.toList());
         }
-
-        return weeks[weekNum].viewActivityOnDate(date);
+        return week.get().viewActivityOnDate(date);
     }
 
     @Override
     public Optional<Activity> getNextActivity() {
 
-        int weekNumber = calculateWeek(LocalDate.now()); // calculateWeek() returns zero-indexed week.
+        int currentWeek = calculateWeek(LocalDate.now()); // calculateWeek() returns zero-indexed week.
 
-        if (weekNumber >= WEEKS_PER_SEMESTER) {
-            return Optional.empty();
-        }
+        // A pending week may hold an earlier activity than the next one among the loaded weeks
+        while (true) {
+            Optional<Activity> nextActivity = upcomingActivities.getNextActivity();
+            Integer firstPendingWeek = pendingWeeks.ceilingKey(currentWeek);
 
-        if (weekNumber < 0) {
-            weekNumber = 0;
+            if (firstPendingWeek == null
+                    || nextActivity.isPresent() && calculateWeek(nextActivity.get().getDate()) < firstPendingWeek) {
+                return nextActivity;
+            }
+            awaitWeek(firstPendingWeek);
         }
+    }
 
-        Optional<Activity> nextActivity = weeks[weekNumber].getNextActivity();
-        weekNumber += 1;
+    @Override
+    public Optional<Activity> getNextLoadedActivity() {
 
-        while (nextActivity.isEmpty() && weekNumber < WEEKS_PER_SEMESTER) {
-            nextActivity = weeks[weekNumber].getFirstActivity();
-            weekNumber++;
-        }
-        return nextActivity;
+        return upcomingActivities.getNextActivity();
     }
 
-    //==================== Tasks ==================
+    @Override
+    public List<FreeSlot> findFreeSlots(LocalDate fromDate, LocalDate toDate, Duration minDuration,
+                                        LocalTime dayStartTime, LocalTime dayEndTime, int maxSlots) {
 
+        List<FreeSlot> freeSlots = new ArrayList<>();
+        int dayStart = OccupancyBitmap.toMinute(dayStartTime);
+        int dayEnd = OccupancyBitmap.toEndMinute(dayEndTime);
+        long minMinutes = minDuration.toMinutes();
 
-    @Override
-    public ObservableList<Task> getTasks() {
+        for (LocalDate date = fromDate; !date.isAfter(toDate) && freeSlots.size() < maxSlots;
+                date = date.plusDays(1)) {
 
-        ObservableList<Task> tasks = FXCollections.observableArrayList();
+            OccupancyBitmap occupancy = getOccupancyOn(date);
+            int minute = occupancy.nextFreeMinute(dayStart);
 
-        for (Week week : weeks) {
-            tasks.addAll(week.getFilteredTaskList());
+            while (minute < dayEnd && freeSlots.size() < maxSlots) {
+                int slotEnd = Math.min(occupancy.nextOccupiedMinute(minute), dayEnd);
+
+                if (slotEnd - minute >= minMinutes) {
+                    freeSlots.add(new FreeSlot(date, toTime(minute), toTime(slotEnd)));
+                }
+                minute = occupancy.nextFreeMinute(slotEnd);
+            }
         }
-        return tasks;
+        return freeSlots;
     }
 
+    //==================== Tasks ==================
+
+
     @Override
-    public ObservableList<Task> getWeekTaskList() {
+    public List<Task> getTasks() {
 
-        int weekNumber = calculateWeek(LocalDate.now());
+        return streamTasks().collect(Collectors.toList());
+    }
 
-        if (weekNumber >= WEEKS_PER_SEMESTER) {
+    @Override
+    public Stream<Task> streamTasks() {
 
-            return new UniqueTaskList().asUnmodifiableObservableList();
-        }
+        awaitAllWeeks();
+        return weeks.values().stream().flatMap(Week::streamTasks);
+    }
 
-        return weeks[weekNumber].getFilteredTaskList();
+    @Override
+    public List<Task> getWeekTaskList() {
+
+        int weekNumber = calculateWeek(LocalDate.now());
+        return findWeek(weekNumber).map(Week::getFilteredTaskList).orElse(List.of());
     }
 
     @Override
     public TaskCompletionStatistics getTaskCompletionStats() {
 
         int weekNumber = calculateWeek(LocalDate.now());
+        return findWeek(weekNumber).map(Week::getTaskCompletionStats).orElseGet(TaskCompletionStatistics::new);
+    }
 
-        if (weekNumber >= WEEKS_PER_SEMESTER) {
+    @Override
+    public TaskCompletionStatistics getTaskCompletionStats(int fromWeekNum, int toWeekNum) {
 
-            return new TaskCompletionStatistics();
-        }
+        awaitWeeks(fromWeekNum - 1, toWeekNum - 1);
+        return semesterTaskStats.getStatistics(fromWeekNum, toWeekNum);
+    }
+
+    @Override
+    public TaskCompletionStatistics getLoadedTaskCompletionStats(int fromWeekNum, int toWeekNum) {
+
+        return semesterTaskStats.getStatistics(fromWeekNum, toWeekNum);
+    }
 
-        return weeks[weekNumber].getTaskCompletionStats();
+    @Override
+    public List<TaskCompletionStatistics> getTaskCompletionTrend(int numberOfWeeks) {
+
+        int weekNumber = calculateWeek(LocalDate.now()) + 1; // calculateWeek() returns zero-indexed week.
+        awaitWeeks(weekNumber - numberOfWeeks, weekNumber - 1);
+        return semesterTaskStats.getTrend(weekNumber, numberOfWeeks);
     }
 
     //======================================= Utilities ========================================
@@ -288,7 +483,7 @@ public class Calendar implements ReadOnlyCalendar {
     public int calculateWeek(LocalDate date) {
 
         int days = (int) DAYS.between(startDate, date);
-        return days / DAYS_PER_WEEK;
+        return Math.floorDiv(days, DAYS_PER_WEEK);
 
     }
 
@@ -296,18 +491,20 @@ public class Calendar implements ReadOnlyCalendar {
     public boolean hasActivity(Activity activity) {
 
         if (activity instanceof Lesson) {
-            return weeks[0].hasActivity(activity);
+            return timetable.hasLesson((Lesson) activity);
         }
 
         int week = calculateWeek(activity.getDate()); // calculateWeek() returns zero-indexed week.
-        return weeks[week].hasActivity(activity);
+        awaitWeek(week);
+        return weeks.containsKey(week) && weeks.get(week).hasActivity(activity);
     }
 
     @Override
     public boolean hasTask(Task task) {
 
         int week = calculateWeek(task.getDueDate());
-        return weeks[week].hasTask(task);
+        awaitWeek(week);
+        return weeks.containsKey(week) && weeks.get(week).hasTask(task);
     }
 
     @Override
@@ -332,41 +529,201 @@ public class Calendar implements ReadOnlyCalendar {
     public boolean isAddable(Activity activity) {
 
         if (activity instanceof Lesson) {
-            boolean canAdd = true;
-            for (Week week : weeks) {
-
-                if (week.getWeekNum() == RECESS_WEEK) {
-                    // No lesson on recess week
-                    continue;
-                }
-
-                if (week.getWeekNum() >= READING_WEEK) {
-                    // No more lessons from reading week onwards
-                    break;
-                }
+            awaitAllWeeks();
 
-                canAdd = week.isAddable(activity);
+            // The weeks that have not been allocated only hold the other lessons of the timetable.
+            if (!timetable.getLessonsOn(((Lesson) activity).getDay()).isAddable(activity)) {
+                return false;
+            }
 
-                if (!canAdd) {
-                    break;
+            for (Week week : weeks.values()) {
+                if (Timetable.isTeachingWeek(week.getWeekNum()) && !week.isAddable(activity)) {
+                    return false;
                 }
             }
-            return canAdd;
+            return true;
         }
 
         int week = calculateWeek(activity.getDate()); // calculateWeek() returns zero-indexed week.
-        return weeks[week].isAddable(activity);
+        awaitWeek(week);
+
+        if (!weeks.containsKey(week)) {
+            return timetable.isAddable(activity, week + 1);
+        }
+        return weeks.get(week).isAddable(activity);
+    }
+
+    /**
+     * Gets the week of the given zero-indexed week number, allocating it if it has not been allocated.
+     *
+     * @param index the zero-indexed week number
+     * @return the week of the given week number
+     */
+    private Week getWeek(int index) {
+
+        awaitWeek(index);
+        return weeks.computeIfAbsent(index, unused -> new Week(index + 1, startDate.plusWeeks(index), timetable));
+    }
+
+    /**
+     * Gets the week of the given zero-indexed week number without allocating it, for reads and for changes that do
+     * nothing to a week that has not been allocated.
+     *
+     * @param index the zero-indexed week number
+     * @return an optional that holds the week if it has been allocated
+     */
+    private Optional<Week> findWeek(int index) {
+
+        awaitWeek(index);
+        return Optional.ofNullable(weeks.get(index));
+    }
+
+    /**
+     * Gets the minutes taken up by the activities on a date, without allocating its week.
+     */
+    private OccupancyBitmap getOccupancyOn(LocalDate date) {
+
+        int week = calculateWeek(date); // calculateWeek() returns zero-indexed week.
+        awaitWeek(week);
+
+        if (!weeks.containsKey(week)) {
+            return timetable.getLessonsOn(date.getDayOfWeek(), week + 1).getOccupancy();
+        }
+        return weeks.get(week).getOccupancyOn(date);
     }
 
     /**
-     * Initializes the week array
+     * Loads a pending week into the calendar, waiting for it to be read if it has not. A week that cannot be read is
+     * recorded as unreadable, and is otherwise left out of the calendar.
+     *
+     * @param index the zero-indexed week number
      */
+    private void awaitWeek(int index) {
 
-    private void initWeeks() {
+        CompletableFuture<WeekLoader> pendingWeek = pendingWeeks.remove(index);
 
-        for (int index = 0; index < weeks.length; index++) {
-            weeks[index] = new Week(index + 1, startDate.plusWeeks(index));
+        if (pendingWeek == null) {
+            return;
         }
+
+        // Loading the week does not change the calendar from what is in storage
+        isLoadingWeek = true;
+        try {
+            pendingWeek.get().loadInto(this);
+        } catch (ExecutionException e) {
+            unreadableWeeks.add(index);
+            logger.severe("Week " + (index + 1) + " could not be read: " + e.getCause());
+        } catch (IllegalValueException e) {
+            unreadableWeeks.add(index);
+            logger.severe("Week " + (index + 1) + " could not be loaded: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingWeeks.put(index, pendingWeek);
+            return;
+        } finally {
+            isLoadingWeek = false;
+        }
+
+        if (weeks.containsKey(index)) {
+            weeks.get(index).markClean();
+        }
+    }
+
+    /**
+     * Loads the pending weeks between two zero-indexed week numbers, inclusive.
+     */
+    private void awaitWeeks(int fromIndex, int toIndex) {
+
+        if (fromIndex > toIndex) {
+            return;
+        }
+        new ArrayList<>(pendingWeeks.subMap(fromIndex, true, toIndex, true).keySet()).forEach(this::awaitWeek);
+    }
+
+    /**
+     * Loads every pending week.
+     */
+    private void awaitAllWeeks() {
+
+        new ArrayList<>(pendingWeeks.keySet()).forEach(this::awaitWeek);
+    }
+
+    /**
+     * Takes over the weeks of another calendar that are still pending.
+     */
+    private static NavigableMap<Integer, CompletableFuture<WeekLoader>> getPendingWeeks(ReadOnlyCalendar calendar) {
+
+        return calendar instanceof Calendar ? ((Calendar) calendar).pendingWeeks : new TreeMap<>();
+    }
+
+    /**
+     * Takes over the weeks of another calendar that could not be read, including those still pending in it.
+     */
+    private static Set<Integer> getUnreadableWeeks(ReadOnlyCalendar calendar) {
+
+        return calendar instanceof Calendar ? ((Calendar) calendar).unreadableWeeks : new TreeSet<>();
+    }
+
+    /**
+     * Dates a lesson on its day in the first week of the calendar.
+     */
+    private Lesson onFirstWeek(Lesson lesson) {
+
+        return new Lesson(lesson, startDate.plusDays(lesson.getDay().getValue() - 1));
+    }
+
+    /**
+     * Converts a minute of the day back into a time. The end of the day, which is the minute after the last, is
+     * converted into {@link LocalTime#MAX}.
+     */
+    private static LocalTime toTime(int minuteOfDay) {
+
+        if (minuteOfDay == OccupancyBitmap.MINUTES_PER_DAY) {
+            return LocalTime.MAX;
+        }
+        return LocalTime.of(minuteOfDay / 60, minuteOfDay % 60);
+    }
+
+    /**
+     * Records a change made to the calendar until it is polled by storage.
+     */
+    private void recordChange(CalendarChange change) {
+
+        if (isLoadingWeek) {
+            return;
+        }
+
+        modificationCount++;
+
+        if (pendingChanges.size() >= MAX_PENDING_CHANGES) {
+            pendingChanges.clear();
+            change = CalendarChange.reset();
+        }
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Rebuilds the index of upcoming activities from the activities in the calendar, cancelling the occurrences of the
+     * lessons that have been deleted from their days. The pending weeks are indexed as they are loaded.
+     */
+    private void indexUpcomingActivities() {
+
+        upcomingActivities = new UpcomingActivities(this);
+        Stream.concat(streamLessons(), weeks.values().stream().flatMap(Week::streamActivities))
+                .forEach(upcomingActivities::add);
+        weeks.values().stream().flatMap(Week::streamDeletedLessons).forEach(upcomingActivities::remove);
+    }
+
+    /**
+     * Rebuilds the semester task statistics from the tasks in the calendar. The pending weeks are counted as they are
+     * loaded.
+     */
+    private void indexTaskStatistics() {
+
+        semesterTaskStats = new SemesterTaskStatistics();
+        weeks.values().stream()
+                .flatMap(Week::streamTasks)
+                .forEach(task -> semesterTaskStats.addTask(calculateWeek(task.getDueDate()) + 1, task));
     }
 
     /**
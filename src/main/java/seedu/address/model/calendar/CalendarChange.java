@@ -0,0 +1,84 @@
+package seedu.address.model.calendar;
+
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.task.Task;
+
+/**
+ * A single change made to the calendar, recorded so that storage can persist only what has changed since the last
+ * save instead of the whole calendar.
+ */
+public class CalendarChange {
+
+    /**
+     * The kinds of changes that can be made to the calendar.
+     */
+    public enum Type {
+        ADD_ACTIVITY, DELETE_ACTIVITY, ADD_TASK, DELETE_TASK, COMPLETE_TASK, RESET
+    }
+
+    private final Type type;
+    private final Activity activity;
+    private final Task task;
+
+    private CalendarChange(Type type, Activity activity, Task task) {
+
+        this.type = type;
+        this.activity = activity;
+        this.task = task;
+    }
+
+    public static CalendarChange addActivity(Activity activity) {
+
+        return new CalendarChange(Type.ADD_ACTIVITY, activity, null);
+    }
+
+    public static CalendarChange deleteActivity(Activity activity) {
+
+        return new CalendarChange(Type.DELETE_ACTIVITY, activity, null);
+    }
+
+    public static CalendarChange addTask(Task task) {
+
+        return new CalendarChange(Type.ADD_TASK, null, task);
+    }
+
+    public static CalendarChange deleteTask(Task task) {
+
+        return new CalendarChange(Type.DELETE_TASK, null, task);
+    }
+
+    public static CalendarChange completeTask(Task task) {
+
+        return new CalendarChange(Type.COMPLETE_TASK, null, task);
+    }
+
+    /**
+     * Creates a change that replaces the whole calendar, which can only be persisted by saving the whole calendar.
+     */
+    public static CalendarChange reset() {
+
+        return new CalendarChange(Type.RESET, null, null);
+    }
+
+    public Type getType() {
+
+        return type;
+    }
+
+    /**
+     * Gets the activity added or deleted, which is null for changes to tasks.
+     */
+    public Activity getActivity() {
+
+        return activity;
+    }
+
+    /**
+     * Gets the task added, deleted or completed, which is null for changes to activities.
+     */
+    public Task getTask() {
+
+        return task;
+    }
+
+}
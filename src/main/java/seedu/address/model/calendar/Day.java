@@ -1,39 +1,59 @@
 package seedu.address.model.calendar;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-
-import javafx.collections.ObservableList;
+import java.util.stream.Stream;
 
 import seedu.address.model.calendar.activity.Activity;
 import seedu.address.model.calendar.activity.ActivityReference;
 import seedu.address.model.calendar.activity.Lesson;
 import seedu.address.model.calendar.activity.Meeting;
+import seedu.address.model.calendar.activity.OccupancyBitmap;
 import seedu.address.model.calendar.activity.UniqueActivityList;
 
 /**
  * The day representation within the calendar of NOVA. Also contains an activity list to record all the activities
  * happening on the day.
+ * <p>
+ * The lessons of the day are not copied into the activity list when they are added. They are only expanded into the
+ * activity list the first time the day is viewed. Until then, they are checked against directly from the timetable.
  */
 public class Day {
 
     private final UniqueActivityList activities = new UniqueActivityList();
+    private final UniqueActivityList lessons;
     private final LocalDate date;
+    private boolean isLessonsExpanded = false;
 
     /**
-     * Instantiates a new Day.
+     * Instantiates a new Day without any lessons.
      *
      * @param date the date of the day
      */
     public Day(LocalDate date) {
 
+        this(date, new UniqueActivityList());
+    }
+
+    /**
+     * Instantiates a new Day.
+     *
+     * @param date    the date of the day
+     * @param lessons the lessons from the timetable that happen on the day
+     */
+    public Day(LocalDate date, UniqueActivityList lessons) {
+
         this.date = date;
+        this.lessons = lessons;
     }
 
     //============================= Modifications to the day ==============================
 
     /**
-     * Adds an activity into the activity list.
+     * Adds an activity into the activity list. A lesson is expected to be in the timetable already, and is only
+     * added into the activity list if the lessons of the day have been expanded.
      *
      * @param activity the activity to be added
      */
@@ -42,12 +62,32 @@ public class Day {
         if (activity instanceof Meeting) {
             Meeting meeting = new Meeting((Meeting) activity);
             activities.add(meeting);
-        } else if (activity instanceof Lesson) {
+        } else if (activity instanceof Lesson && isLessonsExpanded) {
             Lesson lesson = new Lesson((Lesson) activity, date);
             activities.add(lesson);
         }
     }
 
+    /**
+     * Adds activities sorted by start time into the activity list in one step. The activities must not overlap each
+     * other or the lessons of the day.
+     *
+     * @param sortedActivities the activities to be added, sorted by start time
+     */
+    public void addActivities(List<Activity> sortedActivities) {
+
+        List<Activity> copies = new ArrayList<>(sortedActivities.size());
+
+        for (Activity activity : sortedActivities) {
+            if (activity instanceof Meeting) {
+                copies.add(new Meeting((Meeting) activity));
+            } else if (activity instanceof Lesson && isLessonsExpanded) {
+                copies.add(new Lesson((Lesson) activity, date));
+            }
+        }
+        activities.addAll(copies);
+    }
+
     /**
      * Deletes an activity from the day.
      *
@@ -56,7 +96,7 @@ public class Day {
      */
     public Optional<Activity> deleteActivity(ActivityReference activityReference) {
 
-        return activities.delete(activityReference);
+        return getExpandedActivities().delete(activityReference);
     }
 
     //======================================= Getters ========================================
@@ -66,29 +106,50 @@ public class Day {
      *
      * @return the list of activities happening on that date
      */
-    public ObservableList<Activity> getActivities() {
+    public List<Activity> getActivities() {
 
-        return activities.asUnmodifiableObservableList();
+        return getExpandedActivities().asUnmodifiableList();
     }
 
     /**
-     * Gets the first activity of the week.
+     * Streams the activities happening on the day other than the lessons, which are kept in the timetable instead.
+     * Unlike {@link #getActivities()}, this does not expand the lessons into the day.
      *
-     * @return an optional that holds the first activity of the day if it exists
+     * @return a stream of the activities other than lessons happening on the day
      */
-    public Optional<Activity> getFirstActivity() {
+    public Stream<Activity> streamActivities() {
 
-        return activities.getFirstActivity();
+        return activities.stream().filter(activity -> !(activity instanceof Lesson));
     }
 
     /**
-     * Gets the next upcoming activity from now.
+     * Streams the lessons of the timetable that have been deleted from the day, each dated on the day. Only a day
+     * whose lessons have been expanded can have lessons deleted from it.
      *
-     * @return an optional that holds the next activity if it exists
+     * @return a stream of the lessons deleted from the day
      */
-    public Optional<Activity> getNextActivity() {
+    public Stream<Lesson> streamDeletedLessons() {
 
-        return activities.getNextActivity();
+        if (!isLessonsExpanded) {
+            return Stream.empty();
+        }
+        return lessons.stream()
+                .filter(lesson -> !activities.contains(lesson))
+                .map(lesson -> new Lesson((Lesson) lesson, date));
+    }
+
+    /**
+     * Gets the minutes of the day taken up by its activities, including the lessons that have not been expanded into
+     * the day. The returned bitmap must not be modified.
+     *
+     * @return the occupancy of the day
+     */
+    public OccupancyBitmap getOccupancy() {
+
+        if (isLessonsExpanded) {
+            return activities.getOccupancy();
+        }
+        return activities.getOccupancy().union(lessons.getOccupancy());
     }
 
     //======================================= Utilities ========================================
@@ -101,7 +162,7 @@ public class Day {
      */
     public boolean isAddable(Activity activity) {
 
-        return activities.isAddable(activity);
+        return activities.isAddable(activity) && (isLessonsExpanded || lessons.isAddable(activity));
     }
 
     /**
@@ -112,7 +173,26 @@ public class Day {
      */
     public boolean hasActivity(Activity activity) {
 
+        if (activity instanceof Lesson) {
+            return lessons.contains(activity);
+        }
         return activities.contains(activity);
     }
 
+    /**
+     * Expands the lessons of the day into the activity list if they have not been expanded.
+     *
+     * @return the activity list with the lessons of the day expanded
+     */
+    private UniqueActivityList getExpandedActivities() {
+
+        if (!isLessonsExpanded) {
+            for (Activity lesson : lessons) {
+                activities.add(new Lesson((Lesson) lesson, date));
+            }
+            isLessonsExpanded = true;
+        }
+        return activities;
+    }
+
 }
@@ -0,0 +1,89 @@
+package seedu.address.model.calendar;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * A period of time on a date in the calendar that is not taken up by any activity. A free slot that runs to the end
+ * of the day ends at {@link LocalTime#MAX}.
+ */
+public class FreeSlot {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    /**
+     * Instantiates a new free slot.
+     *
+     * @param date      the date of the free slot
+     * @param startTime the start time of the free slot
+     * @param endTime   the end time of the free slot
+     */
+    public FreeSlot(LocalDate date, LocalTime startTime, LocalTime endTime) {
+
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public LocalDate getDate() {
+
+        return date;
+    }
+
+    public LocalTime getStartTime() {
+
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+
+        return endTime;
+    }
+
+    public Duration getDuration() {
+
+        Duration duration = Duration.between(startTime, endTime);
+
+        // LocalTime.MAX stands for midnight at the end of the day, which is a nanosecond after it
+        return endTime.equals(LocalTime.MAX) ? duration.plusNanos(1) : duration;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof FreeSlot)) {
+            return false;
+        }
+
+        FreeSlot otherSlot = (FreeSlot) other;
+        return date.equals(otherSlot.date)
+                && startTime.equals(otherSlot.startTime)
+                && endTime.equals(otherSlot.endTime);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(date, startTime, endTime);
+    }
+
+    @Override
+    public String toString() {
+
+        return date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")) + " "
+                + startTime.format(TIME_FORMATTER) + " - " + endTime.format(TIME_FORMATTER)
+                + " (" + getDuration().toMinutes() + " mins)";
+    }
+
+}
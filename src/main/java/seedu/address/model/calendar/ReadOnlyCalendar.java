@@ -1,12 +1,18 @@
 package seedu.address.model.calendar;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
-
-import javafx.collections.ObservableList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.Lesson;
 import seedu.address.model.calendar.task.Task;
 import seedu.address.model.calendar.task.TaskCompletionStatistics;
 
@@ -34,15 +40,78 @@ public interface ReadOnlyCalendar {
     LocalDate getEndDate();
 
     /**
-     * Get the weeks of the calendar.
+     * Get the weeks of the calendar that have been allocated, keyed by their zero-indexed week number, waiting for any
+     * weeks still being loaded from storage.
+     *
+     * @return the allocated weeks within the calendar
+     */
+    NavigableMap<Integer, Week> getWeeks();
+
+    /**
+     * Gets the weeks of the calendar that have been allocated and loaded, keyed by their zero-indexed week number,
+     * without waiting for the weeks still being loaded from storage. The weeks still being loaded have no changes.
      *
-     * @return the weeks within the calendar
+     * @return the loaded weeks within the calendar
      */
-    Week[] getWeeks();
+    NavigableMap<Integer, Week> getLoadedWeeks();
+
+    /**
+     * Gets the zero-indexed week numbers of the weeks that could not be read from storage, among the weeks loaded so
+     * far. What storage holds for these weeks must not be overwritten or deleted.
+     *
+     * @return the week numbers of the unreadable weeks
+     */
+    Set<Integer> getUnreadableWeeks();
+
+    /**
+     * Gets a future that completes once the weeks still being loaded from storage have all been read, whether or not
+     * they could be read. The weeks read are only loaded into the calendar once they are needed.
+     *
+     * @return the future that completes once the pending weeks are read
+     */
+    CompletableFuture<Void> getPendingWeeksRead();
+
+    /**
+     * Gets the timetable of the lessons in the calendar.
+     *
+     * @return the timetable of the calendar
+     */
+    Timetable getTimetable();
+
+    /**
+     * Takes the changes made to the calendar since they were last polled, so that storage can persist only what has
+     * changed. Each change is only returned once.
+     *
+     * @return the changes made since the last poll, in order
+     */
+    List<CalendarChange> pollChanges();
+
+    /**
+     * Gets the number of changes made to the calendar since it was created. Two equal counts taken from the same
+     * calendar mean that it has not changed in between.
+     *
+     * @return the number of changes made to the calendar
+     */
+    long getModificationCount();
 
     //==================== Activities ==================
 
-    ObservableList<Activity> getActivities();
+    List<Activity> getActivities();
+
+    /**
+     * Streams all the activities in the calendar without copying them. Each lesson is only streamed once, on its day in
+     * the first week of the calendar.
+     *
+     * @return a stream of all the activities in the calendar
+     */
+    Stream<Activity> streamActivities();
+
+    /**
+     * Streams the lessons in the timetable of the calendar, each on its day in the first week of the calendar.
+     *
+     * @return a stream of the lessons in the calendar
+     */
+    Stream<Lesson> streamLessons();
 
     /**
      * Gets the activities happening on a specific date.
@@ -50,7 +119,7 @@ public interface ReadOnlyCalendar {
      * @param date the date to view
      * @return the list of activities happening on that date
      */
-    ObservableList<Activity> viewActivityOnDate(LocalDate date);
+    List<Activity> viewActivityOnDate(LocalDate date);
 
     /**
      * Gets the next activity from now.
@@ -59,16 +128,46 @@ public interface ReadOnlyCalendar {
      */
     Optional<Activity> getNextActivity();
 
+    /**
+     * Gets the next activity from now among the weeks loaded so far, without waiting for the weeks still being loaded
+     * from storage, which may hold an earlier activity.
+     *
+     * @return an optional holding the next activity from now among the loaded weeks if it exists
+     */
+    Optional<Activity> getNextLoadedActivity();
+
+    /**
+     * Finds the earliest free slots between two dates, inclusive, that last at least the given duration and lie within
+     * the given hours of each day.
+     *
+     * @param startDate    the first date to search
+     * @param endDate      the last date to search
+     * @param minDuration  the minimum duration of a free slot
+     * @param dayStartTime the start of the hours to search within each day
+     * @param dayEndTime   the end of the hours to search within each day
+     * @param maxSlots     the maximum number of free slots to find
+     * @return the earliest free slots, in order
+     */
+    List<FreeSlot> findFreeSlots(LocalDate startDate, LocalDate endDate, Duration minDuration,
+                                 LocalTime dayStartTime, LocalTime dayEndTime, int maxSlots);
+
     //==================== Tasks ==================
 
-    ObservableList<Task> getTasks();
+    List<Task> getTasks();
+
+    /**
+     * Streams all the tasks in the calendar without copying them.
+     *
+     * @return a stream of all the tasks in the calendar
+     */
+    Stream<Task> streamTasks();
 
     /**
      * Gets this week's task list.
      *
      * @return this week's task list
      */
-    ObservableList<Task> getWeekTaskList();
+    List<Task> getWeekTaskList();
 
     /**
      * Gets the statistics on the tasks completed.
@@ -77,6 +176,33 @@ public interface ReadOnlyCalendar {
      */
     TaskCompletionStatistics getTaskCompletionStats();
 
+    /**
+     * Gets the statistics of the tasks due between two weeks of the semester, inclusive.
+     *
+     * @param fromWeekNum the first week of the range
+     * @param toWeekNum   the last week of the range
+     * @return the statistics of the tasks due within the range
+     */
+    TaskCompletionStatistics getTaskCompletionStats(int fromWeekNum, int toWeekNum);
+
+    /**
+     * Gets the statistics of the tasks due between two weeks of the semester, inclusive, among the weeks loaded so
+     * far, without waiting for the weeks still being loaded from storage.
+     *
+     * @param fromWeekNum the first week of the range
+     * @param toWeekNum   the last week of the range
+     * @return the statistics of the tasks due within the range in the loaded weeks
+     */
+    TaskCompletionStatistics getLoadedTaskCompletionStats(int fromWeekNum, int toWeekNum);
+
+    /**
+     * Gets the statistics of each of the last few weeks up to this week, oldest first.
+     *
+     * @param numberOfWeeks the number of weeks to include
+     * @return the statistics of each of the weeks
+     */
+    List<TaskCompletionStatistics> getTaskCompletionTrend(int numberOfWeeks);
+
     //======================================= Utilities =====================================
 
     /**
@@ -0,0 +1,150 @@
+package seedu.address.model.calendar;
+
+import static seedu.address.logic.constants.CalendarConstants.DAYS_PER_WEEK;
+import static seedu.address.logic.constants.CalendarConstants.READING_WEEK;
+import static seedu.address.logic.constants.CalendarConstants.RECESS_WEEK;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.Lesson;
+import seedu.address.model.calendar.activity.UniqueActivityList;
+
+/**
+ * The weekly timetable of the lessons within the calendar of NOVA. Each lesson is stored once as a recurrence rule
+ * that repeats on its day of the week across every teaching week of the semester, instead of being copied into every
+ * teaching week.
+ */
+public class Timetable {
+
+    private final UniqueActivityList[] lessons = new UniqueActivityList[DAYS_PER_WEEK];
+
+    /**
+     * Instantiates a new empty Timetable.
+     */
+    public Timetable() {
+
+        for (int index = 0; index < lessons.length; index++) {
+            lessons[index] = new UniqueActivityList();
+        }
+    }
+
+    //============================= Modifications ==============================
+
+    /**
+     * Adds a lesson into the timetable.
+     *
+     * @param lesson the lesson to be added
+     */
+    public void addLesson(Lesson lesson) {
+
+        getLessonsOn(lesson.getDay()).add(lesson);
+    }
+
+    //======================================= Getters ========================================
+
+    /**
+     * Gets the lessons happening on a day of the week, ordered by their start time.
+     *
+     * @param day the day of the week
+     * @return the lessons happening on the day of the week
+     */
+    public UniqueActivityList getLessonsOn(DayOfWeek day) {
+
+        return lessons[day.getValue() - 1];
+    }
+
+    /**
+     * Gets the lessons happening on a day of the week in the given week of the semester. There are no lessons outside
+     * of the teaching weeks, where an empty list that cannot be added to is returned. The returned list must not be
+     * modified.
+     *
+     * @param day     the day of the week
+     * @param weekNum the one-indexed week number
+     * @return the lessons happening on the day of the week in the given week
+     */
+    public UniqueActivityList getLessonsOn(DayOfWeek day, int weekNum) {
+
+        return isTeachingWeek(weekNum) ? getLessonsOn(day) : UniqueActivityList.empty();
+    }
+
+    /**
+     * Gets all the lessons in the timetable.
+     *
+     * @return all the lessons in the timetable
+     */
+    public List<Lesson> getLessons() {
+
+        return streamLessons().collect(Collectors.toList());
+    }
+
+    /**
+     * Streams all the lessons in the timetable, ordered by day then start time, without copying them.
+     *
+     * @return a stream of all the lessons
+     */
+    public Stream<Lesson> streamLessons() {
+
+        return Arrays.stream(lessons).flatMap(UniqueActivityList::stream).map(lesson -> (Lesson) lesson);
+    }
+
+    //======================================= Utilities ========================================
+
+    /**
+     * Returns true if the lesson of interest is already in the timetable.
+     *
+     * @param lesson the lesson to be tested
+     * @return true if the lesson is already in the timetable
+     */
+    public boolean hasLesson(Lesson lesson) {
+
+        return getLessonsOn(lesson.getDay()).contains(lesson);
+    }
+
+    /**
+     * Returns true if the timetable does not have any lesson.
+     *
+     * @return true if the timetable does not have any lesson
+     */
+    public boolean isEmpty() {
+
+        for (UniqueActivityList dayLessons : lessons) {
+            if (dayLessons.iterator().hasNext()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the activity does not overlap with any lesson held in the given week of the semester.
+     *
+     * @param activity the activity to be tested
+     * @param weekNum  the one-indexed week number
+     * @return true if the activity does not overlap with any lesson held in the given week
+     */
+    public boolean isAddable(Activity activity, int weekNum) {
+
+        DayOfWeek day = activity instanceof Lesson
+                ? ((Lesson) activity).getDay()
+                : activity.getDate().getDayOfWeek();
+        return getLessonsOn(day, weekNum).isAddable(activity);
+    }
+
+    /**
+     * Returns true if lessons are held in the given week of the semester.
+     *
+     * @param weekNum the one-indexed week number
+     * @return true if lessons are held in the given week
+     */
+    public static boolean isTeachingWeek(int weekNum) {
+
+        // No lesson on recess week, and no more lessons from reading week onwards
+        return weekNum >= 1 && weekNum != RECESS_WEEK && weekNum < READING_WEEK;
+    }
+
+}
@@ -0,0 +1,148 @@
+package seedu.address.model.calendar;
+
+import static seedu.address.logic.constants.CalendarConstants.READING_WEEK;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.Lesson;
+
+/**
+ * A time-ordered index of the upcoming activities in the calendar, used to find the next activity from now without
+ * scanning through the weeks and days of the calendar. Activities that have started are dropped from the index as
+ * time passes.
+ * <p>
+ * The lessons are not indexed one by one, as they recur across every teaching week. The next lesson is found from the
+ * timetable instead, and is cached until it starts or the lessons change.
+ */
+public class UpcomingActivities {
+
+    private final ReadOnlyCalendar calendar;
+    private final TreeMap<LocalDateTime, Activity> activities = new TreeMap<>();
+    private final Set<LocalDateTime> cancelledLessons = new HashSet<>();
+    private Activity nextLesson;
+    private boolean isNextLessonStale = true;
+
+    /**
+     * Instantiates a new index of the upcoming activities of a calendar.
+     *
+     * @param calendar the calendar whose upcoming activities are indexed
+     */
+    public UpcomingActivities(ReadOnlyCalendar calendar) {
+
+        this.calendar = calendar;
+    }
+
+    //============================= Modifications ==============================
+
+    /**
+     * Records an activity that has been added into the calendar.
+     *
+     * @param activity the activity added
+     */
+    public void add(Activity activity) {
+
+        if (activity instanceof Lesson) {
+            isNextLessonStale = true;
+            return;
+        }
+        activities.put(getStart(activity), activity);
+    }
+
+    /**
+     * Records an activity that has been deleted from the calendar. A deleted lesson only cancels that occurrence of
+     * the lesson.
+     *
+     * @param activity the activity deleted
+     */
+    public void remove(Activity activity) {
+
+        if (activity instanceof Lesson) {
+            cancelledLessons.add(getStart(activity));
+            isNextLessonStale = true;
+            return;
+        }
+        activities.remove(getStart(activity), activity);
+    }
+
+    //======================================= Getters ========================================
+
+    /**
+     * Gets the next activity from now.
+     *
+     * @return an optional holding the next activity from now if it exists
+     */
+    public Optional<Activity> getNextActivity() {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        while (!activities.isEmpty() && !activities.firstKey().isAfter(now)) {
+            activities.pollFirstEntry();
+        }
+
+        if (isNextLessonStale || (nextLesson != null && !getStart(nextLesson).isAfter(now))) {
+            nextLesson = findNextLesson(now);
+            isNextLessonStale = false;
+        }
+
+        Map.Entry<LocalDateTime, Activity> nextEntry = activities.firstEntry();
+
+        if (nextLesson == null) {
+            return nextEntry == null ? Optional.empty() : Optional.of(nextEntry.getValue());
+        }
+
+        if (nextEntry == null || getStart(nextLesson).isBefore(nextEntry.getKey())) {
+            return Optional.of(nextLesson);
+        }
+        return Optional.of(nextEntry.getValue());
+    }
+
+    //======================================= Utilities ========================================
+
+    /**
+     * Finds the first occurrence of a lesson in the timetable that starts after the given time.
+     *
+     * @param now the time to search from
+     * @return the next lesson, or null if there are no more lessons in the semester
+     */
+    private Activity findNextLesson(LocalDateTime now) {
+
+        Timetable timetable = calendar.getTimetable();
+
+        if (timetable.isEmpty()) {
+            return null;
+        }
+
+        LocalDate date = now.toLocalDate();
+
+        if (date.isBefore(calendar.getStartDate())) {
+            date = calendar.getStartDate();
+        }
+
+        for (int weekNum = calendar.calculateWeek(date) + 1; weekNum < READING_WEEK; date = date.plusDays(1)) {
+
+            for (Activity lesson : timetable.getLessonsOn(date.getDayOfWeek(), weekNum)) {
+                LocalDateTime start = LocalDateTime.of(date, lesson.getStartTime());
+
+                if (start.isAfter(now) && !cancelledLessons.contains(start)) {
+                    return new Lesson((Lesson) lesson, date);
+                }
+            }
+            weekNum = calendar.calculateWeek(date.plusDays(1)) + 1;
+        }
+        // No more lessons from reading week onwards
+        return null;
+    }
+
+    private static LocalDateTime getStart(Activity activity) {
+
+        return LocalDateTime.of(activity.getDate(), activity.getStartTime());
+    }
+
+}
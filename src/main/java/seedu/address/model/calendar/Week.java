@@ -3,14 +3,16 @@ package seedu.address.model.calendar;
 import static seedu.address.logic.constants.CalendarConstants.DAYS_PER_WEEK;
 
 import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.util.stream.Stream;
 
 import seedu.address.model.calendar.activity.Activity;
 import seedu.address.model.calendar.activity.ActivityReference;
 import seedu.address.model.calendar.activity.Lesson;
+import seedu.address.model.calendar.activity.OccupancyBitmap;
 import seedu.address.model.calendar.task.Task;
 import seedu.address.model.calendar.task.TaskCompletionStatistics;
 import seedu.address.model.calendar.task.TaskReference;
@@ -20,6 +22,12 @@ import seedu.address.model.calendar.task.exceptions.RepeatedCompleteException;
 /**
  * The week representation within the calendar of NOVA. Also contains a task list to record all the tasks due for the
  * week.
+ * <p>
+ * A day is only allocated the first time it is written to or viewed. Until then, it only holds the lessons in the
+ * timetable.
+ * <p>
+ * The week is marked dirty whenever its activities or tasks change, so that storage only rewrites the weeks that have
+ * changed since they were last saved.
  */
 public class Week {
 
@@ -27,18 +35,21 @@ public class Week {
     private final int weekNum;
     private final Day[] days = new Day[DAYS_PER_WEEK];
     private final UniqueTaskList tasks = new UniqueTaskList();
+    private final Timetable timetable;
+    private boolean isDirty = false;
 
     /**
      * Instantiates a new Week.
      *
      * @param weekNum     the week number
      * @param startOfWeek the start date of week
+     * @param timetable   the timetable of the lessons held during teaching weeks
      */
-    public Week(int weekNum, LocalDate startOfWeek) {
+    public Week(int weekNum, LocalDate startOfWeek, Timetable timetable) {
 
         this.weekNum = weekNum;
         this.startOfWeek = startOfWeek;
-        initDays();
+        this.timetable = timetable;
     }
 
     //============================= Modifications to the week ==============================
@@ -52,7 +63,27 @@ public class Week {
     public void addActivity(Activity activity) {
 
         int dayNumber = getDayNumber(activity) - 1; // getDayNumber() is one-indexed
-        days[dayNumber].addActivity(activity);
+
+        if (activity instanceof Lesson && days[dayNumber] == null) {
+            // The lesson is already in the timetable that the day will be created with.
+            return;
+        }
+        getDay(dayNumber).addActivity(activity);
+        isDirty = true;
+    }
+
+    /**
+     * Adds activities happening on a date in the week in one step.
+     *
+     * @param date             the date of the activities
+     * @param sortedActivities the activities to be added, sorted by start time
+     * @see Day#addActivities(List)
+     */
+    public void addActivitiesOn(LocalDate date, List<Activity> sortedActivities) {
+
+        int dayNumber = date.getDayOfWeek().getValue() - 1;
+        getDay(dayNumber).addActivities(sortedActivities);
+        isDirty = true;
     }
 
     /**
@@ -64,7 +95,9 @@ public class Week {
     public Optional<Activity> deleteActivity(ActivityReference activityReference) {
 
         int dayNumber = getDayNumber(activityReference) - 1; // getDayNumber() is one-indexed
-        return days[dayNumber].deleteActivity(activityReference);
+        Optional<Activity> deletedActivity = getDay(dayNumber).deleteActivity(activityReference);
+        deletedActivity.ifPresent(unused -> isDirty = true);
+        return deletedActivity;
     }
 
     //=================== Task ====================
@@ -77,6 +110,7 @@ public class Week {
     public void addTask(Task task) {
 
         tasks.add(task);
+        isDirty = true;
     }
 
     /**
@@ -87,7 +121,9 @@ public class Week {
      */
     public Optional<Task> deleteTask(TaskReference taskReference) {
 
-        return tasks.delete(taskReference);
+        Optional<Task> deletedTask = tasks.delete(taskReference);
+        deletedTask.ifPresent(unused -> isDirty = true);
+        return deletedTask;
     }
 
     /**
@@ -99,7 +135,9 @@ public class Week {
      */
     public Optional<Task> completeTask(TaskReference taskReference) throws RepeatedCompleteException {
 
-        return tasks.complete(taskReference);
+        Optional<Task> completedTask = tasks.complete(taskReference);
+        completedTask.ifPresent(unused -> isDirty = true);
+        return completedTask;
     }
 
     //======================================= Getters ========================================
@@ -115,6 +153,24 @@ public class Week {
         return weekNum;
     }
 
+    /**
+     * Returns true if the activities or tasks of the week have changed since it was last marked clean.
+     *
+     * @return true if the week has unsaved changes
+     */
+    public boolean isDirty() {
+
+        return isDirty;
+    }
+
+    /**
+     * Marks the week as saved.
+     */
+    public void markClean() {
+
+        isDirty = false;
+    }
+
     //==================== Activities ==================
 
     /**
@@ -123,56 +179,48 @@ public class Week {
      * @param date the date to view
      * @return the list of activities happening on that date
      */
-    public ObservableList<Activity> viewActivityOnDate(LocalDate date) {
+    public List<Activity> viewActivityOnDate(LocalDate date) {
 
         int day = date.getDayOfWeek().getValue() - 1;
-        return days[day].getActivities();
+        return getDay(day).getActivities();
     }
 
-    public ObservableList<Activity> getActivities() {
-
-        ObservableList<Activity> activities = FXCollections.observableArrayList();
+    /**
+     * Streams the activities of the allocated days in the week, other than the lessons, without copying them.
+     *
+     * @return a stream of the activities other than lessons in the week
+     */
+    public Stream<Activity> streamActivities() {
 
-        for (Day day : days) {
-            activities.addAll(day.getActivities());
-        }
-        return activities;
+        return Arrays.stream(days).filter(Objects::nonNull).flatMap(Day::streamActivities);
     }
 
     /**
-     * Gets the first activity of the week.
+     * Streams the lessons of the timetable that have been deleted from the allocated days in the week.
      *
-     * @return an optional that holds the first activity of the week if it exists
+     * @return a stream of the lessons deleted from the week
+     * @see Day#streamDeletedLessons()
      */
-    public Optional<Activity> getFirstActivity() {
+    public Stream<Lesson> streamDeletedLessons() {
 
-        Optional<Activity> firstActivity = Optional.empty();
-        for (Day day : days) {
-            firstActivity = day.getFirstActivity();
-
-            if (firstActivity.isPresent()) {
-                break;
-            }
-        }
-        return firstActivity;
+        return Arrays.stream(days).filter(Objects::nonNull).flatMap(Day::streamDeletedLessons);
     }
 
     /**
-     * Gets the next upcoming activity from now.
+     * Gets the minutes taken up by the activities on a date in the week, without allocating the day. The returned
+     * bitmap must not be modified.
      *
-     * @return an optional that holds the next activity if it exists
+     * @param date the date in the week
+     * @return the occupancy of the date
      */
-    public Optional<Activity> getNextActivity() {
+    public OccupancyBitmap getOccupancyOn(LocalDate date) {
 
-        int dayNumber = LocalDate.now().getDayOfWeek().getValue() - 1;
-        Optional<Activity> nextActivity = days[dayNumber].getNextActivity();
-        dayNumber += 1;
+        int dayNumber = date.getDayOfWeek().getValue() - 1;
 
-        while (nextActivity.isEmpty() && dayNumber < DAYS_PER_WEEK) {
-            nextActivity = days[dayNumber].getFirstActivity();
-            dayNumber++;
+        if (days[dayNumber] == null) {
+            return timetable.getLessonsOn(date.getDayOfWeek(), weekNum).getOccupancy();
         }
-        return nextActivity;
+        return days[dayNumber].getOccupancy();
     }
 
     //==================== Tasks ==================
@@ -182,9 +230,19 @@ public class Week {
      *
      * @return the week's task list
      */
-    public ObservableList<Task> getFilteredTaskList() {
+    public List<Task> getFilteredTaskList() {
 
-        return tasks.asUnmodifiableObservableList();
+        return tasks.asUnmodifiableList();
+    }
+
+    /**
+     * Streams the tasks due in the week without copying them.
+     *
+     * @return a stream of the tasks due in the week
+     */
+    public Stream<Task> streamTasks() {
+
+        return tasks.stream();
     }
 
     /**
@@ -208,6 +266,10 @@ public class Week {
     public boolean isAddable(Activity activity) {
 
         int dayNumber = getDayNumber(activity) - 1; // getDayNumber is one-indexed
+
+        if (days[dayNumber] == null) {
+            return timetable.isAddable(activity, weekNum);
+        }
         return days[dayNumber].isAddable(activity);
     }
 
@@ -220,7 +282,7 @@ public class Week {
     public boolean hasActivity(Activity activity) {
 
         int dayNumber = getDayNumber(activity) - 1; // getDayNumber is one-indexed
-        return days[dayNumber].hasActivity(activity);
+        return days[dayNumber] != null && days[dayNumber].hasActivity(activity);
     }
 
     /**
@@ -235,13 +297,19 @@ public class Week {
     }
 
     /**
-     * Initializes all the days within the week.
+     * Gets the day of the given zero-indexed day number, allocating it if it has not been allocated.
+     * The days of a teaching week follow the lessons in the timetable.
+     *
+     * @param dayNumber the zero-indexed day number
+     * @return the day of the given day number
      */
-    private void initDays() {
+    private Day getDay(int dayNumber) {
 
-        for (int index = 0; index < days.length; index++) {
-            days[index] = new Day(startOfWeek.plusDays(index));
+        if (days[dayNumber] == null) {
+            LocalDate date = startOfWeek.plusDays(dayNumber);
+            days[dayNumber] = new Day(date, timetable.getLessonsOn(date.getDayOfWeek(), weekNum));
         }
+        return days[dayNumber];
     }
 
     /**
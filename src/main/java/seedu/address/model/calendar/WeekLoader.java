@@ -0,0 +1,19 @@
+package seedu.address.model.calendar;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Loads the activities and tasks of a week, which have been read from storage in the background, into the calendar.
+ */
+@FunctionalInterface
+public interface WeekLoader {
+
+    /**
+     * Adds the activities and tasks of the week into the calendar.
+     *
+     * @param calendar the calendar to load the week into
+     * @throws IllegalValueException if any activity or task of the week is invalid
+     */
+    void loadInto(Calendar calendar) throws IllegalValueException;
+
+}
@@ -3,6 +3,7 @@ package seedu.address.model.calendar.activity;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * The Activity representation in the calendar of NOVA.
@@ -207,6 +208,19 @@ public abstract class Activity {
         return endTime.equals(otherActivity.endTime);
     }
 
+    /**
+     * Returns the hash code of the activity, computed from the day of the week and the start time only.
+     * Every subclass considers two activities equal only if they share these fields, which lets an
+     * {@code ActivityReference} find the activity it refers to in a hash based collection.
+     *
+     * @return the hash code of the activity
+     */
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(date.getDayOfWeek(), startTime);
+    }
+
     @Override
     public String toString() {
 
@@ -4,6 +4,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Objects;
 
 /**
  * The Lesson type activity representation to mark school lessons in the calendar of NOVA.
@@ -105,6 +106,13 @@ public class Lesson extends Activity {
                 && atSameTime(act);
     }
 
+    @Override
+    public int hashCode() {
+
+        // A lesson may not have a date, but its day always matches the day of the date it is cloned onto.
+        return Objects.hash(day, startTime);
+    }
+
     /**
      * Returns true if this lesson and the other lesson falls on the same day of the week.
      *
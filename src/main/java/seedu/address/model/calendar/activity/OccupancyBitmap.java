@@ -0,0 +1,137 @@
+package seedu.address.model.calendar.activity;
+
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * The minutes of a day that are taken up by activities, stored as one bit per minute. Checking whether a period of
+ * time is free then takes a few word-level operations, instead of comparing the period against each activity.
+ * <p>
+ * An activity takes up the minutes from its start time up to, but not including, its end time.
+ */
+public class OccupancyBitmap {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final BitSet occupiedMinutes = new BitSet(MINUTES_PER_DAY);
+
+    //======================================= Modification =====================================
+
+    /**
+     * Marks the minutes taken up by the activity as occupied.
+     *
+     * @param activity the activity taking up the minutes
+     */
+    public void occupy(Activity activity) {
+
+        occupiedMinutes.set(toMinute(activity.getStartTime()), toEndMinute(activity.getEndTime()));
+    }
+
+    /**
+     * Marks the minutes taken up by the activity as free.
+     *
+     * @param activity the activity that no longer takes up the minutes
+     */
+    public void release(Activity activity) {
+
+        occupiedMinutes.clear(toMinute(activity.getStartTime()), toEndMinute(activity.getEndTime()));
+    }
+
+    //======================================= Getters =====================================
+
+    /**
+     * Returns a new bitmap with the minutes occupied in either this or the other bitmap.
+     *
+     * @param other the other bitmap
+     * @return the union of the two bitmaps
+     */
+    public OccupancyBitmap union(OccupancyBitmap other) {
+
+        OccupancyBitmap union = new OccupancyBitmap();
+        union.occupiedMinutes.or(occupiedMinutes);
+        union.occupiedMinutes.or(other.occupiedMinutes);
+        return union;
+    }
+
+    /**
+     * Finds the first free minute from the given minute of the day onwards.
+     *
+     * @param fromMinute the minute of the day to search from
+     * @return the first free minute, or {@link #MINUTES_PER_DAY} if the rest of the day is occupied
+     */
+    public int nextFreeMinute(int fromMinute) {
+
+        return Math.min(occupiedMinutes.nextClearBit(fromMinute), MINUTES_PER_DAY);
+    }
+
+    /**
+     * Finds the first occupied minute from the given minute of the day onwards.
+     *
+     * @param fromMinute the minute of the day to search from
+     * @return the first occupied minute, or {@link #MINUTES_PER_DAY} if the rest of the day is free
+     */
+    public int nextOccupiedMinute(int fromMinute) {
+
+        int nextOccupied = occupiedMinutes.nextSetBit(fromMinute);
+        return nextOccupied == -1 ? MINUTES_PER_DAY : nextOccupied;
+    }
+
+    //======================================= Utilities =====================================
+
+    /**
+     * Returns true if none of the minutes taken up by the activity are occupied.
+     *
+     * @param activity the activity to be tested
+     * @return true if the activity does not overlap with any occupied minute
+     */
+    public boolean isFree(Activity activity) {
+
+        return isFree(activity.getStartTime(), activity.getEndTime());
+    }
+
+    /**
+     * Returns true if none of the minutes from the start time up to the end time are occupied.
+     *
+     * @param startTime the start of the period
+     * @param endTime   the end of the period
+     * @return true if the period does not overlap with any occupied minute
+     */
+    public boolean isFree(LocalTime startTime, LocalTime endTime) {
+
+        int start = toMinute(startTime);
+        int end = toEndMinute(endTime);
+
+        if (start >= end) {
+            return true;
+        }
+
+        int nextOccupied = occupiedMinutes.nextSetBit(start);
+        return nextOccupied == -1 || nextOccupied >= end;
+    }
+
+    /**
+     * Converts a time into its minute of the day.
+     *
+     * @param time the time to convert
+     * @return the minute of the day
+     */
+    public static int toMinute(LocalTime time) {
+
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    /**
+     * Converts the end of a period into its minute of the day, rounding it up to the next minute so that a partly
+     * occupied minute counts as occupied.
+     *
+     * @param time the end of the period
+     * @return the minute of the day
+     */
+    public static int toEndMinute(LocalTime time) {
+
+        LocalTime minute = time.truncatedTo(ChronoUnit.MINUTES);
+        return minute.equals(time) ? toMinute(time) : toMinute(minute) + 1;
+    }
+
+}
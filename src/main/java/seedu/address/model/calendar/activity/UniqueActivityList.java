@@ -3,11 +3,14 @@ package seedu.address.model.calendar.activity;
 import static java.util.Objects.requireNonNull;
 
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.util.stream.Stream;
 
 import seedu.address.model.calendar.activity.execeptions.DuplicateActivityException;
 
@@ -16,21 +19,40 @@ import seedu.address.model.calendar.activity.execeptions.DuplicateActivityExcept
  * As such, adding and updating of activities ensure that the person being added or updated is unique in terms of
  * identity in the UniqueActivityList.
  * <p>
+ * The activities are kept sorted by their start time so that lookups, overlap checks and ordered insertion can be
+ * done with a binary search instead of a walk through the list. The activities are also indexed by their hash code,
+ * which is derived from their date and start time, so that duplicate checks and deletions take constant time. The
+ * minutes taken up by the activities are tracked in an {@link OccupancyBitmap}, so that overlap checks do not compare
+ * the activity against the activities in the list.
+ * <p>
  * Supports a minimal set of list operations.
  */
 public class UniqueActivityList implements Iterable<Activity> {
 
-    private final ObservableList<Activity> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Activity> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private static final UniqueActivityList EMPTY = new EmptyActivityList();
+
+    private final List<Activity> internalList = new ArrayList<>();
+    private final List<Activity> internalUnmodifiableList = Collections.unmodifiableList(internalList);
+    private final Map<Activity, Activity> activityIndex = new HashMap<>();
+    private final OccupancyBitmap occupancy = new OccupancyBitmap();
+
+    /**
+     * Gets an empty list that cannot be added to, which can be shared wherever no activities are held.
+     *
+     * @return the empty list
+     */
+    public static UniqueActivityList empty() {
+
+        return EMPTY;
+    }
 
     //======================================= Modification =====================================
 
     /**
-     * Adds a person to the list.
-     * The person must not already exist in the list.
+     * Adds an activity to the list, keeping the list ordered by start time.
+     * The activity must not already exist in the list.
      *
-     * @param toAdd the to add
+     * @param toAdd the activity to add
      */
     public void add(Activity toAdd) {
 
@@ -39,80 +61,70 @@ public class UniqueActivityList implements Iterable<Activity> {
         if (contains(toAdd)) {
             throw new DuplicateActivityException();
         }
-        for (int index = 0; index < internalList.size(); index++) {
-            Activity here = internalList.get(index);
-
-            if (toAdd.startBefore(here)) {
-                if (toAdd.endsBefore(here)) {
-                    internalList.add(index, toAdd);
-                    return;
-                }
-            }
-        }
-        // Traversed the entire list with no escape. Activity is added to the end.
-        internalList.add(internalList.size(), toAdd);
+        internalList.add(findFirstStartingFrom(toAdd.getStartTime()), toAdd);
+        activityIndex.put(toAdd, toAdd);
+        occupancy.occupy(toAdd);
     }
 
     /**
-     * Deletes an activity from the list.
+     * Adds activities that are already sorted by start time to an empty list in a single step, instead of searching
+     * for the position of each. The activities must not overlap or start together, which is left to the caller to
+     * check. If the list is not empty, the activities are added one by one instead.
      *
-     * @param toDelete the scaled-down version of an activity used to identify the actual activity
-     * @return an optional that holds the deleted activity if it exists
+     * @param sortedActivities the activities to add, sorted by start time
      */
-    public Optional<Activity> delete(ActivityReference toDelete) {
+    public void addAll(List<? extends Activity> sortedActivities) {
 
-        requireNonNull(toDelete);
+        requireNonNull(sortedActivities);
 
-        Optional<Activity> deletedActivity = Optional.empty();
-        int index = internalList.indexOf(toDelete);
+        if (!internalList.isEmpty()) {
+            sortedActivities.forEach(this::add);
+            return;
+        }
 
-        if (index != -1) { //If activity is present
-            deletedActivity = Optional.of(internalList.remove(index));
+        Map<Activity, Activity> index = new HashMap<>();
+        for (Activity toAdd : sortedActivities) {
+            if (index.putIfAbsent(requireNonNull(toAdd), toAdd) != null) {
+                throw new DuplicateActivityException();
+            }
         }
 
-        return deletedActivity;
+        activityIndex.putAll(index);
+        sortedActivities.forEach(occupancy::occupy);
+        internalList.addAll(sortedActivities);
     }
 
-    //======================================= Getters =====================================
-
     /**
-     * Gets the first activity in the list.
+     * Deletes an activity from the list.
      *
-     * @return an optional holding the first activity if it exists
+     * @param toDelete the scaled-down version of an activity used to identify the actual activity
+     * @return an optional that holds the deleted activity if it exists
      */
-    public Optional<Activity> getFirstActivity() {
-
-        if (internalList.size() == 0) {
-            return Optional.empty();
-        }
-        return Optional.of(internalList.get(0));
-    }
+    public Optional<Activity> delete(ActivityReference toDelete) {
 
-    /**
-     * Gets the next upcoming activity from now.
-     *
-     * @return an optional holding the next activity from now if it exists
-     */
-    public Optional<Activity> getNextActivity() {
+        requireNonNull(toDelete);
 
-        Optional<Activity> nextActivity = Optional.empty();
-        LocalTime timeNow = LocalTime.now();
+        Activity deletedActivity = activityIndex.remove(toDelete);
 
-        for (Activity activity : internalList) {
-            if (activity.getStartTime().isAfter(timeNow)) {
-                nextActivity = Optional.of(activity);
-                break;
-            }
+        if (deletedActivity == null) {
+            return Optional.empty();
         }
-        return nextActivity;
+
+        int position = positionOf(deletedActivity);
+        internalList.remove(position);
+        occupancy.release(deletedActivity);
+        reoccupyAround(position, deletedActivity);
+        return Optional.of(deletedActivity);
     }
 
+    //======================================= Getters =====================================
+
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code List}.
      *
      * @return the backing list
      */
-    public ObservableList<Activity> asUnmodifiableObservableList() {
+    public List<Activity> asUnmodifiableList() {
 
         return internalUnmodifiableList;
     }
@@ -128,34 +140,38 @@ public class UniqueActivityList implements Iterable<Activity> {
     public boolean contains(Activity toCheck) {
 
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return activityIndex.containsKey(toCheck);
     }
 
     /**
-     * Returns true if the activity can be added into the activity list.
+     * Returns true if the activity can be added into the activity list, that is, if it does not start together with
+     * or overlap any activity in the list.
      *
      * @param toCheck the activity to be tested
      * @return true if the activity can be added into the calendar
      */
     public boolean isAddable(Activity toCheck) {
 
-        boolean isAddable = true;
+        requireNonNull(toCheck);
+        return occupancy.isFree(toCheck) && !startsWithAny(toCheck);
+    }
 
-        for (Activity pointer : internalList) {
+    /**
+     * Returns the minutes of the day taken up by the activities in the list.
+     *
+     * @return the occupancy of the list
+     */
+    public OccupancyBitmap getOccupancy() {
 
-            if (toCheck.startBefore(pointer)) {
-                if (!toCheck.endsBefore(pointer)) {
-                    isAddable = false;
-                }
-                break;
-            }
+        return occupancy;
+    }
 
-            if (toCheck.startDuring(pointer) || toCheck.endsBefore(pointer) || toCheck.endsWith(pointer)) {
-                isAddable = false;
-                break;
-            }
-        }
-        return isAddable;
+    /**
+     * Returns a sequential stream over the list, without copying it.
+     */
+    public Stream<Activity> stream() {
+
+        return internalList.stream();
     }
 
     @Override
@@ -178,4 +194,84 @@ public class UniqueActivityList implements Iterable<Activity> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the position of the given activity instance in the backing list.
+     * Only the activities sharing the same start time are compared.
+     */
+    private int positionOf(Activity activity) {
+
+        int index = findFirstStartingFrom(activity.getStartTime());
+
+        while (internalList.get(index) != activity) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Returns true if an activity in the list starts at the same time as the given activity.
+     */
+    private boolean startsWithAny(Activity toCheck) {
+
+        int index = findFirstStartingFrom(toCheck.getStartTime());
+        return index < internalList.size() && internalList.get(index).startsWith(toCheck);
+    }
+
+    /**
+     * Marks the minutes of the activities around a deleted activity as occupied again, in case they shared any minute
+     * with it. This only happens if overlapping activities were loaded from storage.
+     */
+    private void reoccupyAround(int position, Activity deletedActivity) {
+
+        if (position > 0) {
+            occupancy.occupy(internalList.get(position - 1));
+        }
+
+        LocalTime end = deletedActivity.getEndTime();
+
+        for (int i = position; i < internalList.size() && internalList.get(i).getStartTime().isBefore(end); i++) {
+            occupancy.occupy(internalList.get(i));
+        }
+    }
+
+    /**
+     * Binary searches for the index of the first activity that does not start before {@code time}.
+     * Returns the size of the list if every activity starts before {@code time}.
+     */
+    private int findFirstStartingFrom(LocalTime time) {
+
+        int low = 0;
+        int high = internalList.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (internalList.get(mid).getStartTime().isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * An empty list that rejects any activity added to it.
+     */
+    private static class EmptyActivityList extends UniqueActivityList {
+
+        @Override
+        public void add(Activity toAdd) {
+
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void addAll(List<? extends Activity> sortedActivities) {
+
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
 }
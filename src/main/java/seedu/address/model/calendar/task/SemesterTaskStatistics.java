@@ -0,0 +1,125 @@
+package seedu.address.model.calendar.task;
+
+import static seedu.address.logic.constants.CalendarConstants.WEEKS_PER_SEMESTER;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The statistics of task completion across the weeks of the semester. The counts are kept in Fenwick trees over the
+ * week numbers, so they are updated and queried over any range of weeks in logarithmic time, without walking the task
+ * lists of the weeks.
+ * <p>
+ * Week numbers are one-indexed. Tasks due outside of the semester are not counted.
+ */
+public class SemesterTaskStatistics {
+
+    private final int[] totalTasks = new int[WEEKS_PER_SEMESTER + 1];
+    private final int[] completedTasks = new int[WEEKS_PER_SEMESTER + 1];
+
+    //======================================= Modification =====================================
+
+    /**
+     * Records a task that has been added into a week.
+     *
+     * @param weekNum the week the task is due in
+     * @param task    the task added
+     */
+    public void addTask(int weekNum, Task task) {
+
+        update(totalTasks, weekNum, 1);
+
+        if (task.isCompleted()) {
+            update(completedTasks, weekNum, 1);
+        }
+    }
+
+    /**
+     * Records a task that has been completed in a week.
+     *
+     * @param weekNum the week the task is due in
+     */
+    public void completeTask(int weekNum) {
+
+        update(completedTasks, weekNum, 1);
+    }
+
+    /**
+     * Records a task that has been deleted from a week.
+     *
+     * @param weekNum the week the task was due in
+     * @param task    the task deleted
+     */
+    public void deleteTask(int weekNum, Task task) {
+
+        update(totalTasks, weekNum, -1);
+
+        if (task.isCompleted()) {
+            update(completedTasks, weekNum, -1);
+        }
+    }
+
+    //======================================= Getters =====================================
+
+    /**
+     * Gets the statistics of the tasks due between two weeks, inclusive. The range is clamped to the semester.
+     *
+     * @param fromWeekNum the first week of the range
+     * @param toWeekNum   the last week of the range
+     * @return the statistics of the tasks due within the range
+     */
+    public TaskCompletionStatistics getStatistics(int fromWeekNum, int toWeekNum) {
+
+        int from = Math.max(fromWeekNum, 1);
+        int to = Math.min(toWeekNum, WEEKS_PER_SEMESTER);
+
+        if (from > to) {
+            return new TaskCompletionStatistics();
+        }
+
+        return new TaskCompletionStatistics(
+                sum(completedTasks, to) - sum(completedTasks, from - 1),
+                sum(totalTasks, to) - sum(totalTasks, from - 1));
+    }
+
+    /**
+     * Gets the statistics of each of the weeks up to and including a week, oldest first.
+     *
+     * @param toWeekNum     the last week of the trend
+     * @param numberOfWeeks the number of weeks in the trend
+     * @return the statistics of each week in the trend
+     */
+    public List<TaskCompletionStatistics> getTrend(int toWeekNum, int numberOfWeeks) {
+
+        List<TaskCompletionStatistics> trend = new ArrayList<>();
+
+        for (int weekNum = toWeekNum - numberOfWeeks + 1; weekNum <= toWeekNum; weekNum++) {
+            trend.add(getStatistics(weekNum, weekNum));
+        }
+        return trend;
+    }
+
+    //======================================= Utilities =====================================
+
+    private static void update(int[] tree, int weekNum, int delta) {
+
+        if (weekNum < 1 || weekNum > WEEKS_PER_SEMESTER) {
+            return;
+        }
+
+        for (int i = weekNum; i <= WEEKS_PER_SEMESTER; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private static int sum(int[] tree, int weekNum) {
+
+        int sum = 0;
+
+        for (int i = weekNum; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+}
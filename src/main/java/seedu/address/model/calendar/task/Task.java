@@ -3,12 +3,20 @@ package seedu.address.model.calendar.task;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.Objects;
 
 /**
  * The Task representation to track important task to complete in the calendar of NOVA.
  */
 public class Task {
 
+    /**
+     * Orders tasks by their deadline, from the earliest to the latest.
+     */
+    public static final Comparator<Task> DEADLINE_ORDER =
+            Comparator.comparing(Task::getDueDate).thenComparing(Task::getDueTime);
+
     /**
      * The Task description.
      */
@@ -99,18 +107,18 @@ public class Task {
      */
     public boolean dueBefore(Task other) {
 
-        return dueDate.isBefore(other.dueDate) || dueTime.isBefore(other.dueTime);
+        return DEADLINE_ORDER.compare(this, other) < 0;
     }
 
     /**
-     * Due after boolean.
+     * Returns true if this task is due after the other task.
      *
-     * @param other the other
-     * @return the boolean
+     * @param other the other task to be checked
+     * @return true if this task is due after the other task
      */
     public boolean dueAfter(Task other) {
 
-        return dueDate.isAfter(other.dueDate) || dueTime.isAfter(other.dueTime);
+        return DEADLINE_ORDER.compare(this, other) > 0;
     }
 
     /**
@@ -149,6 +157,18 @@ public class Task {
                 && dueTime.equals(toCompare.dueTime);
     }
 
+    /**
+     * Returns the hash code of the task, computed from the deadline only so that a {@code TaskReference} hashes to
+     * the same value as the task it refers to.
+     *
+     * @return the hash code of the task
+     */
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(dueDate, dueTime);
+    }
+
     @Override
     public String toString() {
 
@@ -14,6 +14,22 @@ public class TaskCompletionStatistics {
     private int totalTasks = 0;
     private int completedTasks = 0;
 
+    public TaskCompletionStatistics() {
+
+    }
+
+    /**
+     * Instantiates the statistics with the given counts.
+     *
+     * @param completedTasks the number of tasks completed
+     * @param totalTasks     the total number of tasks
+     */
+    public TaskCompletionStatistics(int completedTasks, int totalTasks) {
+
+        this.completedTasks = completedTasks;
+        this.totalTasks = totalTasks;
+    }
+
 //======================================= Modification =====================================
 
     /**
@@ -91,7 +107,7 @@ public class TaskCompletionStatistics {
             return "100%";
         }
 
-        int percentage = completedTasks / totalTasks;
+        int percentage = completedTasks * 100 / totalTasks;
         return percentage + "%";
     }
 
@@ -2,11 +2,14 @@ package seedu.address.model.calendar.task;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
+import java.util.stream.Stream;
 
 import seedu.address.model.calendar.activity.execeptions.DuplicateActivityException;
 import seedu.address.model.calendar.task.exceptions.RepeatedCompleteException;
@@ -16,6 +19,9 @@ import seedu.address.model.calendar.task.exceptions.RepeatedCompleteException;
  * As such, adding and updating of activities ensure that the person being added or updated is unique in terms of
  * identity in the UniqueActivityList.
  * <p>
+ * The tasks are kept sorted by their deadline and are inserted with a binary search. The tasks are also indexed by
+ * their hash code, which is derived from their deadline, so that lookups by a {@code TaskReference} take constant time.
+ * <p>
  * Supports a minimal set of list operations.
  */
 
@@ -26,9 +32,9 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public static final String MESSAGE_REPEATED_COMPLETE = "The tasks has already been completed.";
 
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Task> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
+    private final List<Task> internalList = new ArrayList<>();
+    private final List<Task> internalUnmodifiableList = Collections.unmodifiableList(internalList);
+    private final Map<Task, Task> taskIndex = new HashMap<>();
     private final TaskCompletionStatistics stats = new TaskCompletionStatistics();
 
     //======================================= Modification =====================================
@@ -45,17 +51,8 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateActivityException();
         }
-        for (int index = 0; index < internalList.size(); index++) {
-            Task here = internalList.get(index);
-
-            if (toAdd.dueBefore(here)) {
-                internalList.add(index, toAdd);
-                incrementStatsCount(toAdd);
-                return;
-            }
-        }
-        // Traversed the entire list with no escape. Activity is added to the end.
-        internalList.add(internalList.size(), toAdd);
+        internalList.add(findFirstDueAfter(toAdd), toAdd);
+        taskIndex.put(toAdd, toAdd);
         incrementStatsCount(toAdd);
     }
 
@@ -69,14 +66,15 @@ public class UniqueTaskList implements Iterable<Task> {
 
         requireNonNull(toDelete);
 
-        Optional<Task> deletedTask = Optional.empty();
-        int index = internalList.indexOf(toDelete);
+        Task deletedTask = taskIndex.remove(toDelete);
 
-        if (index != -1) { //If task is present
-            deletedTask = Optional.of(internalList.remove(index));
-            decrementStatsCount(deletedTask.get());
+        if (deletedTask == null) {
+            return Optional.empty();
         }
-        return deletedTask;
+
+        internalList.remove(positionOf(deletedTask));
+        decrementStatsCount(deletedTask);
+        return Optional.of(deletedTask);
     }
 
     /**
@@ -90,26 +88,24 @@ public class UniqueTaskList implements Iterable<Task> {
 
         requireNonNull(toComplete);
 
-        Optional<Task> completedTask = Optional.empty();
-        int index = internalList.indexOf(toComplete);
+        Task task = taskIndex.get(toComplete);
 
-        if (index != -1) { //If task is present
-
-            Task task = internalList.get(index);
+        if (task == null) {
+            return Optional.empty();
+        }
 
-            if (task.isCompleted()) {
-                throw new RepeatedCompleteException(MESSAGE_REPEATED_COMPLETE);
-            }
+        if (task.isCompleted()) {
+            throw new RepeatedCompleteException(MESSAGE_REPEATED_COMPLETE);
+        }
 
-            task.complete();
-            completedTask = Optional.of(task);
-            stats.incrementCompletedTask();
+        task.complete();
+        stats.incrementCompletedTask();
 
-            // This portion is a workaround for the UI to update the task list card UI properly.
-            internalList.remove(index);
-            internalList.add(index, task);
-        }
-        return completedTask;
+        // This portion is a workaround for the UI to update the task list card UI properly.
+        int index = positionOf(task);
+        internalList.remove(index);
+        internalList.add(index, task);
+        return Optional.of(task);
     }
 
     //======================================= Getters =====================================
@@ -125,11 +121,11 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the backing list as an unmodifiable {@code List}.
      *
      * @return the backing list
      */
-    public ObservableList<Task> asUnmodifiableObservableList() {
+    public List<Task> asUnmodifiableList() {
 
         return internalUnmodifiableList;
     }
@@ -145,7 +141,15 @@ public class UniqueTaskList implements Iterable<Task> {
     public boolean contains(Task toCheck) {
 
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return taskIndex.containsKey(toCheck);
+    }
+
+    /**
+     * Returns a sequential stream over the list, without copying it.
+     */
+    public Stream<Task> stream() {
+
+        return internalList.stream();
     }
 
     @Override
@@ -168,6 +172,61 @@ public class UniqueTaskList implements Iterable<Task> {
                 && internalList.equals(((UniqueTaskList) other).internalList));
     }
 
+    /**
+     * Returns the position of the given task instance in the backing list.
+     * Only the tasks sharing the same deadline are compared.
+     */
+    private int positionOf(Task task) {
+
+        int index = findFirstDueFrom(task);
+
+        while (internalList.get(index) != task) {
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Binary searches for the index of the first task that is not due before {@code task}.
+     */
+    private int findFirstDueFrom(Task task) {
+
+        int low = 0;
+        int high = internalList.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (internalList.get(mid).dueBefore(task)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Binary searches for the index of the first task that is due after {@code task}.
+     * Tasks due at the same time are therefore kept in their insertion order.
+     */
+    private int findFirstDueAfter(Task task) {
+
+        int low = 0;
+        int high = internalList.size();
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (internalList.get(mid).dueAfter(task)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
     private void incrementStatsCount(Task task) {
 
         stats.incrementTotalTasks();
@@ -0,0 +1,344 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.constants.Messages.MESSAGE_DUPLICATE_TASK;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.ReadOnlyCalendar;
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.Lesson;
+import seedu.address.model.calendar.activity.Meeting;
+import seedu.address.model.calendar.task.Task;
+
+/**
+ * Stores the calendar in a compact binary format, as an alternative to {@link JsonCalendarStorage}.
+ * <p>
+ * The file starts with a header holding a magic number, the format version and the calendar start date. It is
+ * followed by a table of the distinct strings in the calendar, so that a description, venue or note shared by many
+ * activities is stored once, and then by the activity and task records. Dates are stored as epoch days and times as
+ * minutes of the day. Every record is prefixed with its length, so that a reader can skip fields added by later
+ * versions of the format.
+ */
+public class BinaryCalendarStorage implements CalendarStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_CALENDAR_FILE = "File is not a calendar file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Calendar file version %d is not supported";
+    public static final String MESSAGE_UNKNOWN_ACTIVITY_TYPE = "Unknown activity type %d";
+    public static final String MESSAGE_TRUNCATED_FILE = "Calendar file is incomplete";
+
+    private static final int MAGIC = 0x4E4F5641; // "NOVA"
+    private static final short FORMAT_VERSION = 1;
+
+    private static final byte TYPE_MEETING = 0;
+    private static final byte TYPE_LESSON = 1;
+
+    private static final byte FLAG_COMPLETED = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCalendarStorage.class);
+
+    private final Path filePath;
+
+    public BinaryCalendarStorage(Path filePath) {
+
+        this.filePath = filePath;
+    }
+
+    /**
+     * Checks if the calendar file should be stored in the binary format, which is picked by its extension before any
+     * compressed file extension.
+     *
+     * @param filePath the path of the calendar file
+     * @return true if the file has the binary file extension
+     */
+    public static boolean isBinaryFile(Path filePath) {
+
+        return FileUtil.getUncompressedFileName(filePath).endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getCalendarFilePath() {
+
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar() throws DataConversionException, IOException {
+
+        return readCalendar(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar(Path filePath) throws DataConversionException, IOException {
+
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Calendar file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer = FileUtil.readToBuffer(filePath);
+
+        try {
+            return Optional.of(decode(buffer));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e);
+            throw new DataConversionException(new IllegalValueException(MESSAGE_TRUNCATED_FILE));
+        }
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar) throws IOException {
+
+        saveCalendar(calendar, filePath);
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+
+        prepareSave(calendar, filePath).write();
+    }
+
+    @Override
+    public PreparedSave prepareSave(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+
+        requireNonNull(calendar);
+        requireNonNull(filePath);
+
+        calendar.pollChanges(); // The whole calendar is saved, so the changes made to it need not be tracked
+        byte[] content = encode(calendar);
+
+        return PreparedSave.fullSave(() -> FileUtil.writeToFileAtomically(filePath, out -> out.write(content)));
+    }
+
+    //============================= Encoding ==============================
+
+    private static byte[] encode(ReadOnlyCalendar calendar) throws IOException {
+
+        StringTable strings = new StringTable();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordsOut = new DataOutputStream(records);
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+
+        List<Activity> activities = new ArrayList<>();
+        calendar.streamActivities().forEach(activities::add);
+        recordsOut.writeInt(activities.size());
+
+        for (Activity activity : activities) {
+            record.reset();
+            recordOut.writeByte(activity instanceof Lesson ? TYPE_LESSON : TYPE_MEETING);
+            recordOut.writeInt(strings.indexOf(activity.getDescription()));
+            recordOut.writeInt(strings.indexOf(activity.getVenue()));
+            recordOut.writeInt(strings.indexOf(activity.getNotes()));
+            recordOut.writeInt((int) activity.getDate().toEpochDay());
+            recordOut.writeShort(toMinuteOfDay(activity.getStartTime()));
+            recordOut.writeShort(toMinuteOfDay(activity.getEndTime()));
+            writeRecord(recordsOut, record);
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        calendar.streamTasks().forEach(tasks::add);
+        recordsOut.writeInt(tasks.size());
+
+        for (Task task : tasks) {
+            record.reset();
+            recordOut.writeInt(strings.indexOf(task.getDescription()));
+            recordOut.writeInt(strings.indexOf(task.getNote()));
+            recordOut.writeInt((int) task.getDueDate().toEpochDay());
+            recordOut.writeShort(toMinuteOfDay(task.getDueTime()));
+            recordOut.writeByte(task.isCompleted() ? FLAG_COMPLETED : 0);
+            writeRecord(recordsOut, record);
+        }
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream(records.size() + 64);
+        DataOutputStream fileOut = new DataOutputStream(file);
+
+        fileOut.writeInt(MAGIC);
+        fileOut.writeShort(FORMAT_VERSION);
+        fileOut.writeInt((int) calendar.getStartDate().toEpochDay());
+        strings.writeTo(fileOut);
+        records.writeTo(fileOut);
+        fileOut.flush();
+
+        return file.toByteArray();
+    }
+
+    private static void writeRecord(DataOutputStream out, ByteArrayOutputStream record) throws IOException {
+
+        out.writeShort(record.size());
+        record.writeTo(out);
+    }
+
+    private static int toMinuteOfDay(LocalTime time) {
+
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    //============================= Decoding ==============================
+
+    private static Calendar decode(ByteBuffer buffer) throws IllegalValueException {
+
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_CALENDAR_FILE);
+        }
+
+        short version = buffer.getShort();
+        if (version < 1 || version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        Calendar calendar = new Calendar(LocalDate.ofEpochDay(buffer.getInt()));
+
+        String[] strings = new String[readCount(buffer, Integer.BYTES)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readCount(buffer, Byte.BYTES)];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, UTF_8);
+        }
+
+        BulkActivityLoader activityLoader = new BulkActivityLoader();
+        int activityCount = readCount(buffer, Short.BYTES);
+        for (int i = 0; i < activityCount; i++) {
+            int recordEnd = readRecordEnd(buffer);
+            activityLoader.add(decodeActivity(buffer, strings));
+            buffer.position(recordEnd);
+        }
+        activityLoader.loadInto(calendar);
+
+        int taskCount = readCount(buffer, Short.BYTES);
+        for (int i = 0; i < taskCount; i++) {
+            int recordEnd = readRecordEnd(buffer);
+            Task task = decodeTask(buffer, strings);
+            buffer.position(recordEnd);
+
+            if (calendar.hasTask(task)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+            }
+            calendar.addTask(task);
+        }
+
+        return calendar;
+    }
+
+    /**
+     * Reads the number of items that follow, each of which takes up at least {@code minBytesEach} bytes. The count is
+     * checked against the bytes left, so that a corrupted count cannot make the decoder allocate beyond the file.
+     */
+    private static int readCount(ByteBuffer buffer, int minBytesEach) throws IllegalValueException {
+
+        int count = buffer.getInt();
+
+        if (count < 0 || count > buffer.remaining() / minBytesEach) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED_FILE);
+        }
+
+        return count;
+    }
+
+    private static int readRecordEnd(ByteBuffer buffer) {
+
+        int length = Short.toUnsignedInt(buffer.getShort());
+        int recordEnd = buffer.position() + length;
+
+        if (recordEnd > buffer.limit()) {
+            throw new BufferUnderflowException();
+        }
+
+        return recordEnd;
+    }
+
+    private static Activity decodeActivity(ByteBuffer buffer, String[] strings) throws IllegalValueException {
+
+        byte type = buffer.get();
+        String description = strings[buffer.getInt()];
+        String venue = strings[buffer.getInt()];
+        String notes = strings[buffer.getInt()];
+        LocalDate date = LocalDate.ofEpochDay(buffer.getInt());
+        LocalTime startTime = LocalTime.ofSecondOfDay(buffer.getShort() * 60L);
+        LocalTime endTime = LocalTime.ofSecondOfDay(buffer.getShort() * 60L);
+
+        switch (type) {
+        case TYPE_MEETING:
+            return new Meeting(description, venue, date, startTime, endTime, notes);
+        case TYPE_LESSON:
+            return new Lesson(description, venue, date.getDayOfWeek(), startTime, endTime, notes);
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_ACTIVITY_TYPE, type));
+        }
+    }
+
+    private static Task decodeTask(ByteBuffer buffer, String[] strings) {
+
+        String description = strings[buffer.getInt()];
+        String note = strings[buffer.getInt()];
+        LocalDate dueDate = LocalDate.ofEpochDay(buffer.getInt());
+        LocalTime dueTime = LocalTime.ofSecondOfDay(buffer.getShort() * 60L);
+        byte flags = buffer.get();
+
+        Task task = new Task(description, dueDate, dueTime, note);
+
+        if ((flags & FLAG_COMPLETED) != 0) {
+            task.complete();
+        }
+
+        return task;
+    }
+
+    /**
+     * Numbers the distinct strings in a calendar in the order they are first seen.
+     */
+    private static class StringTable {
+
+        private final Map<String, Integer> indices = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int indexOf(String string) {
+
+            return indices.computeIfAbsent(string, s -> {
+                strings.add(s);
+                return strings.size() - 1;
+            });
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+
+            out.writeInt(strings.size());
+
+            for (String string : strings) {
+                byte[] bytes = string.getBytes(UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+        }
+
+    }
+
+}
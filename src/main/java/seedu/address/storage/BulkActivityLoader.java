@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static seedu.address.logic.constants.Messages.MESSAGE_DUPLICATE_ACTIVITY;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.ActivityReference;
+import seedu.address.model.calendar.activity.Lesson;
+import seedu.address.model.calendar.activity.OccupancyBitmap;
+import seedu.address.model.calendar.activity.UniqueActivityList;
+
+/**
+ * Loads the activities read from storage into a calendar in bulk.
+ * <p>
+ * The activities are grouped by day and sorted once. Each day is then checked for duplicates and clashes in a single
+ * sweep through its activities, so that a file holding activities that {@code AddCommand} would have rejected is
+ * reported precisely instead of being loaded. The activities of a day are then added to the calendar in one step.
+ * <p>
+ * Only the lessons of the timetable are stored, not the occurrences of them that were deleted. An activity held over
+ * a lesson on its date was added after that occurrence of the lesson was deleted, so the occurrence is deleted again
+ * instead of being reported as a clash.
+ */
+class BulkActivityLoader {
+
+    public static final String MESSAGE_DUPLICATE_ACTIVITY_AT = MESSAGE_DUPLICATE_ACTIVITY + ": %1$s on %2$s";
+    public static final String MESSAGE_ACTIVITY_CLASH = "Activities clash on %1$s: %2$s and %3$s";
+
+    private static final Comparator<Activity> START_TIME_ORDER = Comparator.comparing(Activity::getStartTime);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private static final Logger logger = LogsCenter.getLogger(BulkActivityLoader.class);
+
+    private final Map<DayOfWeek, List<Activity>> lessonsByDay = new EnumMap<>(DayOfWeek.class);
+    private final Map<LocalDate, List<Activity>> activitiesByDate = new HashMap<>();
+
+    /**
+     * Adds an activity to be loaded. Lessons are grouped by their day of the week, and the other activities by their
+     * date.
+     *
+     * @param activity the activity to be loaded
+     */
+    public void add(Activity activity) {
+
+        if (activity instanceof Lesson) {
+            lessonsByDay.computeIfAbsent(((Lesson) activity).getDay(), unused -> new ArrayList<>()).add(activity);
+        } else {
+            activitiesByDate.computeIfAbsent(activity.getDate(), unused -> new ArrayList<>()).add(activity);
+        }
+    }
+
+    /**
+     * Checks the activities for duplicates and clashes, and adds them into a calendar without any activities. The
+     * occurrences of lessons that the other activities are held over are deleted from the calendar.
+     *
+     * @param calendar the calendar to load the activities into
+     * @throws IllegalValueException if any two activities are duplicates or clash
+     */
+    public void loadInto(Calendar calendar) throws IllegalValueException {
+
+        for (Map.Entry<DayOfWeek, List<Activity>> lessonsOnDay : lessonsByDay.entrySet()) {
+            List<Activity> lessons = lessonsOnDay.getValue();
+            lessons.sort(START_TIME_ORDER);
+            checkNoClash(lessons, lessonsOnDay.getKey().toString().toLowerCase());
+            lessons.forEach(calendar::addActivity);
+        }
+
+        for (Map.Entry<LocalDate, List<Activity>> activitiesOnDate : activitiesByDate.entrySet()) {
+            LocalDate date = activitiesOnDate.getKey();
+            List<Activity> activities = activitiesOnDate.getValue();
+            activities.sort(START_TIME_ORDER);
+            checkNoClash(activities, date.format(DATE_FORMATTER));
+
+            deleteLessonsHeldOver(calendar, date, activities);
+            calendar.addActivitiesOn(date, activities);
+        }
+    }
+
+    /**
+     * Deletes the occurrences of the lessons on a date that the activities of the date are held over.
+     */
+    private static void deleteLessonsHeldOver(Calendar calendar, LocalDate date, List<Activity> sortedActivities) {
+
+        UniqueActivityList activitiesOnDate = new UniqueActivityList();
+        activitiesOnDate.addAll(sortedActivities);
+
+        int weekNum = calendar.calculateWeek(date) + 1; // calculateWeek() returns zero-indexed week.
+        List<Activity> lessonsHeldOver = new ArrayList<>();
+
+        for (Activity lesson : calendar.getTimetable().getLessonsOn(date.getDayOfWeek(), weekNum)) {
+            if (!activitiesOnDate.isAddable(lesson)) {
+                lessonsHeldOver.add(lesson);
+            }
+        }
+
+        for (Activity lesson : lessonsHeldOver) {
+            logger.warning("Deleting " + describe(lesson) + " on " + date.format(DATE_FORMATTER)
+                    + ", as another activity is held over it");
+            calendar.deleteActivity(new ActivityReference(date, lesson.getStartTime()));
+        }
+    }
+
+    /**
+     * Sweeps through activities sorted by start time, keeping the activity that ends the latest so far, to find any
+     * activity that starts before the earlier ones have ended.
+     */
+    private static void checkNoClash(List<Activity> sortedActivities, String day) throws IllegalValueException {
+
+        Activity previous = null;
+        Activity latestEnding = null;
+        int latestEnd = 0;
+
+        for (Activity activity : sortedActivities) {
+
+            if (previous != null && activity.equals(previous)) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_ACTIVITY_AT, describe(activity), day));
+            }
+
+            if (previous != null && activity.startsWith(previous)) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_ACTIVITY_CLASH, day, describe(previous), describe(activity)));
+            }
+
+            if (latestEnding != null && OccupancyBitmap.toMinute(activity.getStartTime()) < latestEnd) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_ACTIVITY_CLASH, day, describe(latestEnding), describe(activity)));
+            }
+
+            int end = OccupancyBitmap.toEndMinute(activity.getEndTime());
+            if (latestEnding == null || end > latestEnd) {
+                latestEnding = activity;
+                latestEnd = end;
+            }
+            previous = activity;
+        }
+    }
+
+    private static String describe(Activity activity) {
+
+        return "\"" + activity.getDescription() + "\" (" + activity.getStartTime() + " - " + activity.getEndTime()
+                + ")";
+    }
+
+}
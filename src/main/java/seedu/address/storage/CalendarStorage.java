@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -15,8 +17,67 @@ public interface CalendarStorage {
 
     Optional<ReadOnlyCalendar> readCalendar(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the calendar, loading the weeks around a date first. A storage that can read one week at a time may leave
+     * the other weeks to be read in the background, so that the calendar can be shown sooner. By default, the whole
+     * calendar is read.
+     *
+     * @param date the date whose weeks are needed first
+     * @return an optional holding the calendar if it exists
+     * @throws DataConversionException if the weeks read first are not in the correct format
+     * @throws IOException             if there was an error reading the calendar
+     */
+    default Optional<ReadOnlyCalendar> readCalendarAround(LocalDate date) throws DataConversionException, IOException {
+
+        return readCalendar();
+    }
+
     void saveCalendar(ReadOnlyCalendar calendar) throws IOException;
 
     void saveCalendar(ReadOnlyCalendar calendar, Path filePath) throws IOException;
 
+    /**
+     * Captures what needs to be saved for the calendar without writing anything to disk, so that the save can be
+     * written later from another thread.
+     *
+     * @param calendar the calendar to save
+     * @param filePath the file to save the calendar to
+     * @return the save to be written
+     * @throws IOException if the calendar cannot be converted for saving
+     */
+    PreparedSave prepareSave(ReadOnlyCalendar calendar, Path filePath) throws IOException;
+
+    /**
+     * Forces any saved data that is still buffered onto the disk.
+     *
+     * @throws IOException if there was an error during syncing
+     */
+    default void flush() throws IOException {
+
+    }
+
+    /**
+     * Converts the calendar in another storage into this storage, if this storage has no calendar yet.
+     *
+     * @param source the storage to convert the calendar from
+     * @return true if a calendar was converted
+     * @throws DataConversionException if the calendar in the source is not in the correct format
+     * @throws IOException             if there was an error reading or writing the calendar
+     */
+    default boolean convertFrom(CalendarStorage source) throws DataConversionException, IOException {
+
+        if (Files.exists(getCalendarFilePath())) {
+            return false;
+        }
+
+        Optional<ReadOnlyCalendar> calendar = source.readCalendar();
+
+        if (calendar.isEmpty()) {
+            return false;
+        }
+
+        saveCalendar(calendar.get());
+        return true;
+    }
+
 }
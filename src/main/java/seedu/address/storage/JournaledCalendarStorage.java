@@ -0,0 +1,331 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.CalendarChange;
+import seedu.address.model.calendar.ReadOnlyCalendar;
+
+/**
+ * A calendar storage that appends the changes made to the calendar to a journal, instead of rewriting the whole
+ * calendar file on every save. The calendar file holds a snapshot of the calendar, and the journal beside it holds one
+ * compact JSON record per change made since that snapshot.
+ * <p>
+ * The journal is synced to disk in groups of records, and is compacted into a new snapshot once it grows long enough
+ * or the calendar is reset. Reading the calendar replays the journal over the snapshot.
+ * <p>
+ * Every snapshot has a generation one higher than the last, and every record is stamped with the generation of the
+ * snapshot it was made on top of. A crash after a new snapshot is in place but before the journal is deleted leaves
+ * records that the snapshot already covers, and these are skipped when the journal is replayed.
+ * <p>
+ * A record that cannot be read or applied stops the replay there, as the records after it may depend on it. The
+ * records from it onwards are moved aside into a file beside the journal, and the calendar is read as of the record
+ * before it.
+ */
+public class JournaledCalendarStorage extends JsonCalendarStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String REJECTED_RECORDS_FILE_SUFFIX = ".rejected";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledCalendarStorage.class);
+
+    private static final int SYNC_GROUP_SIZE = 8;
+    private static final int COMPACTION_THRESHOLD = 256;
+
+    private final Path journalPath;
+
+    // Only used while preparing saves
+    private volatile boolean needsSnapshot = true;
+    private int recordsSinceSnapshot = 0;
+    private long generation = 0;
+    private boolean isJournalRead = false;
+
+    // Only used while writing saves
+    private FileChannel journal;
+    private long journalLength = 0;
+    private int unsyncedRecords = 0;
+
+    public JournaledCalendarStorage(Path filePath) {
+
+        super(filePath);
+        journalPath = getJournalPath(filePath);
+    }
+
+    /**
+     * Gets the path of the journal kept beside a calendar file.
+     *
+     * @param filePath the path of the calendar file
+     * @return the path of the journal
+     */
+    public static Path getJournalPath(Path filePath) {
+
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Gets the path of the file that the records of a journal which could not be replayed are moved into.
+     *
+     * @param journalPath the path of the journal
+     * @return the path of the file of rejected records
+     */
+    public static Path getRejectedRecordsPath(Path journalPath) {
+
+        return journalPath.resolveSibling(journalPath.getFileName() + REJECTED_RECORDS_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar(Path filePath) throws DataConversionException, IOException {
+
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableCalendar> snapshot = JsonUtil.readJsonFile(filePath, JsonSerializableCalendar.class);
+
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Calendar calendar = toModelType(snapshot.get(), filePath);
+        long snapshotGeneration = snapshot.get().getGeneration();
+        Path journalToReplay = getJournalPath(filePath);
+
+        if (!Files.exists(journalToReplay)) {
+            if (filePath.equals(getCalendarFilePath())) {
+                resetJournal(0, 0, snapshotGeneration);
+            }
+            return Optional.of(calendar);
+        }
+
+        byte[] records = Files.readAllBytes(journalToReplay);
+        int recordStart = 0;
+        int recordCount = 0;
+        int skippedCount = 0;
+        boolean isRecordRejected = false;
+
+        for (int i = 0; i < records.length && !isRecordRejected; i++) {
+            if (records[i] != '\n') {
+                continue;
+            }
+
+            String record = new String(records, recordStart, i - recordStart, UTF_8);
+
+            try {
+                JsonAdaptedCalendarChange change = JsonUtil.fromJsonString(record, JsonAdaptedCalendarChange.class);
+
+                // The snapshot was written after this record, but the journal was not deleted after it
+                if (change.getGeneration() < snapshotGeneration) {
+                    skippedCount++;
+                } else {
+                    change.applyTo(calendar);
+                }
+                recordStart = i + 1;
+                recordCount++;
+            } catch (IllegalValueException | IOException e) {
+                logger.warning("Illegal record found in " + journalToReplay + ", stopping the replay there: "
+                        + e.getMessage());
+                isRecordRejected = true;
+            }
+        }
+
+        if (isRecordRejected && filePath.equals(getCalendarFilePath())) {
+            moveRecordsAside(records, recordStart);
+        } else if (recordStart < records.length) {
+            // The last record was cut short, most likely by a crash while it was being written
+            logger.warning("Discarding incomplete record at the end of " + journalToReplay);
+        }
+
+        calendar.pollChanges(); // The replayed changes are already in the journal
+        if (filePath.equals(getCalendarFilePath())) {
+            resetJournal(recordStart, recordCount, snapshotGeneration);
+        }
+        logger.fine("Replayed " + (recordCount - skippedCount) + " records from " + journalToReplay + ", skipping "
+                + skippedCount + " already in the snapshot");
+        return Optional.of(calendar);
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+
+        prepareSave(calendar, filePath).write();
+    }
+
+    @Override
+    public PreparedSave prepareSave(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+
+        requireNonNull(calendar);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getCalendarFilePath())) {
+            return super.prepareSave(calendar, filePath);
+        }
+
+        List<CalendarChange> changes = calendar.pollChanges();
+
+        if (needsSnapshot || recordsSinceSnapshot + changes.size() > COMPACTION_THRESHOLD
+                || changes.stream().anyMatch(change -> change.getType() == CalendarChange.Type.RESET)) {
+            return prepareCompaction(calendar);
+        }
+
+        if (changes.isEmpty()) {
+            return PreparedSave.NONE;
+        }
+
+        StringBuilder records = new StringBuilder();
+        for (CalendarChange change : changes) {
+            records.append(JsonUtil.toCompactJsonString(new JsonAdaptedCalendarChange(change, generation)))
+                    .append('\n');
+        }
+
+        recordsSinceSnapshot += changes.size();
+        return new JournalAppend(records.toString(), changes.size());
+    }
+
+    @Override
+    public void flush() throws IOException {
+
+        if (journal != null && unsyncedRecords > 0) {
+            journal.force(false);
+        }
+        unsyncedRecords = 0;
+    }
+
+    /**
+     * Captures the whole calendar as a new snapshot, which empties the journal once it is written. If the journal on
+     * disk was never read into the calendar, it is deleted before the snapshot is written instead, as the records in
+     * it may not be older than the new snapshot.
+     */
+    private PreparedSave prepareCompaction(ReadOnlyCalendar calendar) throws IOException {
+
+        logger.fine("Compacting " + journalPath + " into a snapshot after " + recordsSinceSnapshot + " records");
+        JsonSerializableCalendar snapshot = new JsonSerializableCalendar(calendar, generation + 1);
+        boolean isJournalUnread = !isJournalRead;
+        needsSnapshot = false;
+        recordsSinceSnapshot = 0;
+        generation++;
+        isJournalRead = true;
+
+        return PreparedSave.fullSave(() -> {
+            try {
+                closeJournal();
+                if (isJournalUnread) {
+                    Files.deleteIfExists(journalPath);
+                }
+                JsonUtil.saveJsonFile(snapshot, getCalendarFilePath());
+                Files.deleteIfExists(journalPath);
+                journalLength = 0;
+            } catch (IOException ioe) {
+                needsSnapshot = true;
+                throw ioe;
+            }
+        });
+    }
+
+    /**
+     * Moves the records of the journal from the given position onwards into the file of rejected records, adding to
+     * any records moved there before.
+     */
+    private void moveRecordsAside(byte[] records, int fromPosition) throws IOException {
+
+        Path rejectedRecordsPath = getRejectedRecordsPath(journalPath);
+        Files.write(rejectedRecordsPath, Arrays.copyOfRange(records, fromPosition, records.length),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        try (FileChannel journalToTruncate = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            journalToTruncate.truncate(fromPosition);
+        }
+        logger.warning("Moved the records from the illegal record onwards into " + rejectedRecordsPath);
+    }
+
+    private void append(byte[] records) throws IOException {
+
+        if (journal == null) {
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            // Drops any incomplete record left at the end of the journal
+            journal.truncate(journalLength);
+            journal.position(journalLength);
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(records);
+        while (buffer.hasRemaining()) {
+            journal.write(buffer);
+        }
+        journalLength += records.length;
+    }
+
+    private void resetJournal(long validLength, int recordCount, long snapshotGeneration) throws IOException {
+
+        closeJournal();
+        journalLength = validLength;
+        recordsSinceSnapshot = recordCount;
+        generation = snapshotGeneration;
+        isJournalRead = true;
+        needsSnapshot = false;
+    }
+
+    private void closeJournal() throws IOException {
+
+        if (journal != null) {
+            flush();
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /**
+     * Records to be appended to the journal. Consecutive appends are merged so that they are written together.
+     */
+    private class JournalAppend implements PreparedSave {
+
+        private final String records;
+        private final int recordCount;
+
+        JournalAppend(String records, int recordCount) {
+
+            this.records = records;
+            this.recordCount = recordCount;
+        }
+
+        @Override
+        public void write() throws IOException {
+
+            try {
+                append(records.getBytes(UTF_8));
+            } catch (IOException ioe) {
+                needsSnapshot = true;
+                throw ioe;
+            }
+
+            unsyncedRecords += recordCount;
+            if (unsyncedRecords >= SYNC_GROUP_SIZE) {
+                flush();
+            }
+        }
+
+        @Override
+        public PreparedSave andThen(PreparedSave later) {
+
+            if (later instanceof JournalAppend) {
+                JournalAppend laterAppend = (JournalAppend) later;
+                return new JournalAppend(records + laterAppend.records, recordCount + laterAppend.recordCount);
+            }
+            return PreparedSave.super.andThen(later);
+        }
+
+    }
+
+}
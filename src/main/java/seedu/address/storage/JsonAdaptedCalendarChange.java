@@ -0,0 +1,171 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.CalendarChange;
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.ActivityReference;
+import seedu.address.model.calendar.task.Task;
+import seedu.address.model.calendar.task.TaskReference;
+import seedu.address.model.calendar.task.exceptions.RepeatedCompleteException;
+
+/**
+ * Jackson-friendly version of {@link CalendarChange}, written as one record of the calendar journal. Additions hold
+ * the whole activity or task, while deletions and completions only hold the date and time that identify it.
+ * <p>
+ * Each record is stamped with the generation of the snapshot it was made on top of, so that the records a later
+ * snapshot already covers can be told apart from those it does not.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JsonAdaptedCalendarChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal record's type is not recognized: %s";
+
+    private final CalendarChange.Type type;
+    private final JsonAdaptedActivity activity;
+    private final JsonAdaptedTask task;
+    private final LocalDate date;
+    private final LocalTime time;
+    private final long generation;
+
+    @JsonCreator
+    public JsonAdaptedCalendarChange(@JsonProperty("type") CalendarChange.Type type,
+                                     @JsonProperty("activity") JsonAdaptedActivity activity,
+                                     @JsonProperty("task") JsonAdaptedTask task,
+                                     @JsonProperty("date") LocalDate date,
+                                     @JsonProperty("time") LocalTime time,
+                                     @JsonProperty("generation") long generation) {
+
+        this.type = type;
+        this.activity = activity;
+        this.task = task;
+        this.date = date;
+        this.time = time;
+        this.generation = generation;
+    }
+
+    /**
+     * Records a change made on top of the snapshot of the given generation.
+     *
+     * @param source     the change made to the calendar
+     * @param generation the generation of the snapshot the change was made on top of
+     */
+    public JsonAdaptedCalendarChange(CalendarChange source, long generation) {
+
+        requireNonNull(source);
+
+        type = source.getType();
+        this.generation = generation;
+
+        switch (type) {
+
+        case ADD_ACTIVITY:
+            activity = new JsonAdaptedActivity(source.getActivity());
+            task = null;
+            date = null;
+            time = null;
+            break;
+
+        case DELETE_ACTIVITY:
+            activity = null;
+            task = null;
+            date = source.getActivity().getDate();
+            time = source.getActivity().getStartTime();
+            break;
+
+        case ADD_TASK:
+            activity = null;
+            task = new JsonAdaptedTask(source.getTask());
+            date = null;
+            time = null;
+            break;
+
+        case DELETE_TASK:
+        case COMPLETE_TASK:
+            activity = null;
+            task = null;
+            date = source.getTask().getDueDate();
+            time = source.getTask().getDueTime();
+            break;
+
+        default:
+            throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    public long getGeneration() {
+
+        return generation;
+    }
+
+    /**
+     * Applies the change onto the calendar. Additions already in the calendar are skipped. The records already
+     * covered by the snapshot must not be applied, as a deletion would remove whatever now stands at its date and
+     * time.
+     *
+     * @param calendar the calendar to apply the change onto
+     * @throws IllegalValueException if the record is missing any field
+     */
+    public void applyTo(Calendar calendar) throws IllegalValueException {
+
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Type"));
+        }
+
+        switch (type) {
+
+        case ADD_ACTIVITY:
+            Activity toAdd = require(activity, "Activity").toModelType();
+
+            if (!calendar.hasActivity(toAdd)) {
+                calendar.addActivity(toAdd);
+            }
+            break;
+
+        case DELETE_ACTIVITY:
+            calendar.deleteActivity(new ActivityReference(require(date, "Date"), require(time, "Time")));
+            break;
+
+        case ADD_TASK:
+            Task taskToAdd = require(task, "Task").toModelType();
+
+            if (!calendar.hasTask(taskToAdd)) {
+                calendar.addTask(taskToAdd);
+            }
+            break;
+
+        case DELETE_TASK:
+            calendar.deleteTask(new TaskReference(require(date, "Date"), require(time, "Time")));
+            break;
+
+        case COMPLETE_TASK:
+            try {
+                calendar.completeTask(new TaskReference(require(date, "Date"), require(time, "Time")));
+            } catch (RepeatedCompleteException e) {
+                // The completion has already been saved in the snapshot
+            }
+            break;
+
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private static <T> T require(T field, String fieldName) throws IllegalValueException {
+
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return field;
+    }
+
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calendar.activity.Lesson;
+
+/**
+ * A lesson in the timetable, saved once by its day of the week rather than once for every week it is held in.
+ */
+public class JsonAdaptedLesson {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson's %s field is missing!";
+
+    private final String description;
+    private final String venue;
+    private final DayOfWeek day;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+    private final String notes;
+
+    @JsonCreator
+    public JsonAdaptedLesson(@JsonProperty("description") String description,
+                             @JsonProperty("venue") String venue,
+                             @JsonProperty("day") DayOfWeek day,
+                             @JsonProperty("startTime") LocalTime startTime,
+                             @JsonProperty("endTime") LocalTime endTime,
+                             @JsonProperty("notes") String notes) {
+
+        this.description = description;
+        this.venue = venue;
+        this.day = day;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.notes = notes;
+    }
+
+    public JsonAdaptedLesson(Lesson source) {
+
+        requireNonNull(source);
+
+        description = source.getDescription();
+        venue = source.getVenue();
+        day = source.getDay();
+        startTime = source.getStartTime();
+        endTime = source.getEndTime();
+        notes = source.getNotes();
+    }
+
+    public Lesson toModelType() throws IllegalValueException {
+
+        if (description == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Description"));
+        }
+        if (venue == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Venue"));
+        }
+        if (day == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Day"));
+        }
+        if (startTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Start Time"));
+        }
+        if (endTime == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "End Time"));
+        }
+        if (notes == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Notes"));
+        }
+
+        return new Lesson(description, venue, day, startTime, endTime, notes);
+    }
+
+}
@@ -10,8 +10,8 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.calendar.Calendar;
 import seedu.address.model.calendar.ReadOnlyCalendar;
 
 public class JsonCalendarStorage implements CalendarStorage {
@@ -49,8 +49,22 @@ public class JsonCalendarStorage implements CalendarStorage {
             return Optional.empty();
         }
 
+        return Optional.of(toModelType(jsonCalendar.get(), filePath));
+    }
+
+    /**
+     * Converts a calendar read from a file into the model's calendar.
+     *
+     * @param jsonCalendar the calendar read from the file
+     * @param filePath     the path of the file, which is logged if the calendar holds illegal values
+     * @return the converted calendar
+     * @throws DataConversionException if the calendar holds illegal values
+     */
+    protected static Calendar toModelType(JsonSerializableCalendar jsonCalendar, Path filePath)
+            throws DataConversionException {
+
         try {
-            return Optional.of(jsonCalendar.get().toModelType());
+            return jsonCalendar.toModelType();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,11 +80,19 @@ public class JsonCalendarStorage implements CalendarStorage {
     @Override
     public void saveCalendar(ReadOnlyCalendar calendar, Path filePath) throws IOException {
 
+        prepareSave(calendar, filePath).write();
+    }
+
+    @Override
+    public PreparedSave prepareSave(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+
         requireNonNull(calendar);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCalendar(calendar), filePath);
+        calendar.pollChanges(); // The whole calendar is saved, so the changes made to it need not be tracked
+        JsonSerializableCalendar jsonCalendar = new JsonSerializableCalendar(calendar);
+
+        return PreparedSave.fullSave(() -> JsonUtil.saveJsonFile(jsonCalendar, filePath));
     }
 
 }
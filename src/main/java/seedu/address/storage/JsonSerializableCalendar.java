@@ -6,9 +6,9 @@ import static seedu.address.logic.constants.Messages.MESSAGE_DUPLICATE_TASK;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -18,33 +18,98 @@ import seedu.address.model.calendar.activity.Activity;
 import seedu.address.model.calendar.activity.Lesson;
 import seedu.address.model.calendar.task.Task;
 
+/**
+ * The calendar as saved in json. The lessons of the timetable are saved once each, by their day of the week, apart
+ * from the meetings.
+ * <p>
+ * Files saved before the lessons were split out hold every activity in a single {@code activities} section, with a
+ * dated copy of a lesson for each of its weeks. Such files are still read, with the copies of a lesson after the first
+ * skipped, and are saved in the new format the next time the calendar is saved.
+ */
 @JsonRootName(value = "calendar")
 public class JsonSerializableCalendar {
 
     private final LocalDate startDate;
-    private final List<JsonAdaptedActivity> activities = new ArrayList<>();
+
+    // Numbers the snapshots kept by a journaled storage, so that journal records older than the snapshot are skipped
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long generation;
+
+    private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
+    private final List<JsonAdaptedActivity> meetings = new ArrayList<>();
     private final List<JsonAdaptedTask> tasks = new ArrayList<>();
 
+    // Only read from files in the old format, and never written
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<JsonAdaptedActivity> activities = new ArrayList<>();
+
     @JsonCreator
     public JsonSerializableCalendar(@JsonProperty("startDate") LocalDate startDate,
+                                    @JsonProperty("lessons") List<JsonAdaptedLesson> lessons,
+                                    @JsonProperty("meetings") List<JsonAdaptedActivity> meetings,
+                                    @JsonProperty("tasks") List<JsonAdaptedTask> tasks,
                                     @JsonProperty("activities") List<JsonAdaptedActivity> activities,
-                                    @JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+                                    @JsonProperty("generation") long generation) {
 
         this.startDate = startDate;
-        this.activities.addAll(activities);
-        this.tasks.addAll(tasks);
+        this.generation = generation;
+
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+        if (meetings != null) {
+            this.meetings.addAll(meetings);
+        }
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+        if (activities != null) {
+            this.activities.addAll(activities);
+        }
     }
 
     public JsonSerializableCalendar(ReadOnlyCalendar source) {
 
+        this(source, 0);
+    }
+
+    /**
+     * Saves the calendar as a snapshot of the given generation.
+     *
+     * @param source     the calendar to save
+     * @param generation the generation of the snapshot
+     */
+    public JsonSerializableCalendar(ReadOnlyCalendar source, long generation) {
+
         startDate = source.getStartDate();
-        activities.addAll(source.getActivities().stream().map(JsonAdaptedActivity::new).collect(Collectors.toList()));
-        tasks.addAll(source.getTasks().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+        this.generation = generation;
+        source.streamLessons().map(JsonAdaptedLesson::new).forEach(lessons::add);
+        source.streamActivities()
+                .filter(activity -> !(activity instanceof Lesson))
+                .map(JsonAdaptedActivity::new)
+                .forEach(meetings::add);
+        source.streamTasks().map(JsonAdaptedTask::new).forEach(tasks::add);
+    }
+
+    public long getGeneration() {
+
+        return generation;
     }
 
     public Calendar toModelType() throws IllegalValueException {
 
         Calendar calendar = new Calendar(startDate);
+        BulkActivityLoader activityLoader = new BulkActivityLoader();
+
+        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
+            activityLoader.add(jsonAdaptedLesson.toModelType());
+        }
+
+        for (JsonAdaptedActivity jsonAdaptedActivity : meetings) {
+            activityLoader.add(jsonAdaptedActivity.toModelType());
+        }
+
+        activityLoader.loadInto(calendar);
 
         for (JsonAdaptedActivity jsonAdaptedActivity : activities) {
             Activity activity = jsonAdaptedActivity.toModelType();
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static seedu.address.logic.constants.Messages.MESSAGE_DUPLICATE_TASK;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.Week;
+import seedu.address.model.calendar.task.Task;
+
+/**
+ * The activities, other than lessons, and the tasks of a single week, saved as one shard of the calendar.
+ */
+@JsonRootName(value = "week")
+public class JsonSerializableWeek {
+
+    private final List<JsonAdaptedActivity> activities = new ArrayList<>();
+    private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+
+    @JsonCreator
+    public JsonSerializableWeek(@JsonProperty("activities") List<JsonAdaptedActivity> activities,
+                                @JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+
+        if (activities != null) {
+            this.activities.addAll(activities);
+        }
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+    }
+
+    public JsonSerializableWeek(Week source) {
+
+        source.streamActivities().map(JsonAdaptedActivity::new).forEach(activities::add);
+        source.streamTasks().map(JsonAdaptedTask::new).forEach(tasks::add);
+    }
+
+    /**
+     * Returns true if the week has neither activities nor tasks to save.
+     */
+    public boolean isEmpty() {
+
+        return activities.isEmpty() && tasks.isEmpty();
+    }
+
+    /**
+     * Adds the activities and tasks of the week into the calendar, which must not hold any activities of the week yet.
+     *
+     * @param calendar the calendar to add to
+     * @throws IllegalValueException if any activity or task is invalid, clashes with another or is already in the
+     *                               calendar
+     */
+    public void addTo(Calendar calendar) throws IllegalValueException {
+
+        BulkActivityLoader activityLoader = new BulkActivityLoader();
+
+        for (JsonAdaptedActivity jsonAdaptedActivity : activities) {
+            activityLoader.add(jsonAdaptedActivity.toModelType());
+        }
+
+        activityLoader.loadInto(calendar);
+
+        for (JsonAdaptedTask jsonAdaptedTask : tasks) {
+
+            Task task = jsonAdaptedTask.toModelType();
+
+            if (calendar.hasTask(task)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+            }
+
+            calendar.addTask(task);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+
+/**
+ * A save of the calendar whose data has already been captured, so that it can be written to disk later, possibly from
+ * another thread, while the calendar keeps changing.
+ */
+@FunctionalInterface
+public interface PreparedSave {
+
+    /**
+     * A save that has nothing to write.
+     */
+    PreparedSave NONE = () -> { };
+
+    /**
+     * Writes the captured data to disk.
+     *
+     * @throws IOException if there was an error during writing
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns true if the save writes the whole calendar, which makes any earlier save to the same file redundant.
+     */
+    default boolean isFullSave() {
+
+        return false;
+    }
+
+    /**
+     * Combines this save with a later one, so that both can be written together. A later full save replaces this
+     * save entirely.
+     *
+     * @param later the save that comes after this one
+     * @return the combined save
+     */
+    default PreparedSave andThen(PreparedSave later) {
+
+        if (later.isFullSave() || this == NONE) {
+            return later;
+        }
+
+        if (later == NONE) {
+            return this;
+        }
+
+        PreparedSave earlier = this;
+        return new PreparedSave() {
+
+            @Override
+            public void write() throws IOException {
+
+                earlier.write();
+                later.write();
+            }
+
+            @Override
+            public boolean isFullSave() {
+
+                return earlier.isFullSave();
+            }
+        };
+    }
+
+    /**
+     * Marks a save as one that writes the whole calendar.
+     *
+     * @param save the save of the whole calendar
+     * @return the save, marked as a full save
+     */
+    static PreparedSave fullSave(PreparedSave save) {
+
+        return new PreparedSave() {
+
+            @Override
+            public void write() throws IOException {
+
+                save.write();
+            }
+
+            @Override
+            public boolean isFullSave() {
+
+                return true;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,376 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.CalendarChange;
+import seedu.address.model.calendar.ReadOnlyCalendar;
+import seedu.address.model.calendar.Week;
+import seedu.address.model.calendar.WeekLoader;
+import seedu.address.model.calendar.activity.Lesson;
+
+/**
+ * Stores the calendar in a directory of json shards, so that a change only rewrites the shards it touches.
+ * <p>
+ * The start date and the lessons of the calendar are kept in one shard, and the activities and tasks of every week in
+ * a shard of their own. Only the weeks that are marked dirty are rewritten when the calendar is saved, and the shard of
+ * the lessons is only rewritten when a lesson is added. The week shards are parsed in parallel when the calendar is
+ * read.
+ * <p>
+ * When the calendar is read around a date, only the shards of the weeks around it are read before the calendar is
+ * returned. The other shards are parsed in the background, nearest weeks first, and left pending in the calendar until
+ * they are needed. The shard of a pending week that turns out to be unreadable is never overwritten or deleted, and a
+ * save that cannot include the week fails once the other shards are written.
+ */
+public class ShardedCalendarStorage implements CalendarStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".shards";
+
+    public static final String MESSAGE_UNREADABLE_WEEKS = "Weeks %s could not be read, so their shards were left as "
+            + "they are and the changes to them were not saved";
+
+    private static final String CALENDAR_SHARD = "calendar.json";
+    private static final String WEEK_SHARD_FORMAT = "week%d.json";
+    private static final Pattern WEEK_SHARD_PATTERN = Pattern.compile("week(-?\\d+)\\.json");
+
+    // The number of weeks on either side of the date whose shards are read before the calendar is returned
+    private static final int WEEKS_READ_FIRST = 1;
+    private static final int BACKGROUND_READERS = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedCalendarStorage.class);
+
+    private final Path directoryPath;
+
+    // Whether the shards on disk may differ from the calendar in ways the dirty weeks do not capture.
+    // Cleared when a save is prepared and set again by the writer if that save fails.
+    private volatile boolean needsFullSave = true;
+
+    public ShardedCalendarStorage(Path directoryPath) {
+
+        this.directoryPath = directoryPath;
+    }
+
+    /**
+     * Checks if the calendar should be stored as a directory of shards, which is picked by its extension.
+     *
+     * @param filePath the path of the calendar file
+     * @return true if the path has the extension of a shard directory
+     */
+    public static boolean isShardDirectory(Path filePath) {
+
+        return filePath.getFileName().toString().endsWith(DIRECTORY_EXTENSION);
+    }
+
+    @Override
+    public Path getCalendarFilePath() {
+
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar() throws DataConversionException, IOException {
+
+        return readCalendar(directoryPath);
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendar(Path directoryPath) throws DataConversionException, IOException {
+
+        requireNonNull(directoryPath);
+
+        Optional<JsonSerializableCalendar> calendarShard = JsonUtil.readJsonFile(
+                directoryPath.resolve(CALENDAR_SHARD), JsonSerializableCalendar.class);
+
+        if (calendarShard.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Callable<WeekLoader>> weekShardReads = listWeekShards(directoryPath).values()
+                .stream()
+                .<Callable<WeekLoader>>map(path -> () -> readWeekShard(path))
+                .collect(Collectors.toList());
+
+        Calendar calendar;
+
+        try {
+            calendar = calendarShard.get().toModelType();
+
+            // The shards are parsed in parallel, but added to the calendar one after another
+            for (Future<WeekLoader> weekShardRead : ForkJoinPool.commonPool().invokeAll(weekShardReads)) {
+                weekShardRead.get().loadInto(calendar);
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DataConversionException) {
+                throw (DataConversionException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading " + directoryPath);
+        }
+
+        // The weeks read match the shards on disk
+        calendar.getWeeks().values().forEach(Week::markClean);
+
+        if (directoryPath.equals(this.directoryPath)) {
+            needsFullSave = false;
+        }
+
+        return Optional.of(calendar);
+    }
+
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendarAround(LocalDate date) throws DataConversionException, IOException {
+
+        requireNonNull(date);
+
+        Optional<JsonSerializableCalendar> calendarShard = JsonUtil.readJsonFile(
+                directoryPath.resolve(CALENDAR_SHARD), JsonSerializableCalendar.class);
+
+        if (calendarShard.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<Integer, Path> weekShards = listWeekShards(directoryPath);
+        Calendar calendar;
+        int weekOfDate;
+
+        try {
+            calendar = calendarShard.get().toModelType();
+            weekOfDate = calendar.calculateWeek(date); // calculateWeek() returns zero-indexed week.
+
+            for (int index = weekOfDate - WEEKS_READ_FIRST; index <= weekOfDate + WEEKS_READ_FIRST; index++) {
+                Path weekShardPath = weekShards.remove(index);
+                if (weekShardPath != null) {
+                    readWeekShard(weekShardPath).loadInto(calendar);
+                }
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        // The weeks read match the shards on disk
+        calendar.getLoadedWeeks().values().forEach(Week::markClean);
+
+        ExecutorService backgroundReader = Executors.newFixedThreadPool(BACKGROUND_READERS,
+                ShardedCalendarStorage::newReaderThread);
+        weekShards.entrySet().stream()
+                .sorted(Comparator.comparingInt(weekShard -> Math.abs(weekShard.getKey() - weekOfDate)))
+                .forEach(weekShard -> calendar.addPendingWeek(weekShard.getKey(),
+                        CompletableFuture.supplyAsync(() -> readWeekShardInBackground(weekShard.getValue()),
+                                backgroundReader)));
+        backgroundReader.shutdown();
+
+        needsFullSave = false;
+        logger.info("Read " + calendar.getLoadedWeeks().size() + " weeks of the calendar, with " + weekShards.size()
+                + " weeks left to be read in the background");
+
+        return Optional.of(calendar);
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar) throws IOException {
+
+        saveCalendar(calendar, directoryPath);
+    }
+
+    @Override
+    public void saveCalendar(ReadOnlyCalendar calendar, Path directoryPath) throws IOException {
+
+        prepareSave(calendar, directoryPath).write();
+    }
+
+    @Override
+    public PreparedSave prepareSave(ReadOnlyCalendar calendar, Path directoryPath) throws IOException {
+
+        requireNonNull(calendar);
+        requireNonNull(directoryPath);
+
+        List<CalendarChange> changes = calendar.pollChanges();
+        boolean isOwnDirectory = directoryPath.equals(this.directoryPath);
+        boolean isFullSave = needsFullSave || !isOwnDirectory
+                || changes.stream().anyMatch(change -> change.getType() == CalendarChange.Type.RESET);
+        boolean hasNewLessons = changes.stream().anyMatch(change ->
+                change.getType() == CalendarChange.Type.ADD_ACTIVITY && change.getActivity() instanceof Lesson);
+
+        JsonSerializableCalendar calendarShard = null;
+        if (isFullSave || hasNewLessons) {
+            calendarShard = new JsonSerializableCalendar(calendar.getStartDate(),
+                    calendar.streamLessons().map(JsonAdaptedLesson::new).collect(Collectors.toList()),
+                    null, null, null, 0);
+        }
+
+        // The weeks still being loaded have not changed, so only a full save needs to wait for them
+        Map<Integer, Week> weeks = isFullSave ? calendar.getWeeks() : calendar.getLoadedWeeks();
+        Set<Integer> unreadableWeeks = new TreeSet<>(calendar.getUnreadableWeeks());
+        Map<Integer, JsonSerializableWeek> weekShards = new TreeMap<>();
+        for (Map.Entry<Integer, Week> entry : weeks.entrySet()) {
+            Week week = entry.getValue();
+
+            // The shard of an unreadable week still holds its data, so it is never overwritten
+            if (unreadableWeeks.contains(entry.getKey())) {
+                continue;
+            }
+            if (isFullSave || week.isDirty()) {
+                weekShards.put(entry.getKey(), new JsonSerializableWeek(week));
+            }
+            if (isOwnDirectory) {
+                week.markClean();
+            }
+        }
+
+        // The changes to an unreadable week cannot be saved, and a copy elsewhere would be missing the week entirely
+        List<Integer> unsavedWeeks = unreadableWeeks.stream()
+                .filter(index -> !isOwnDirectory || weeks.containsKey(index) && weeks.get(index).isDirty())
+                .collect(Collectors.toList());
+
+        if (isOwnDirectory) {
+            needsFullSave = false;
+        }
+
+        if (calendarShard == null && weekShards.isEmpty() && unsavedWeeks.isEmpty()) {
+            return PreparedSave.NONE;
+        }
+
+        JsonSerializableCalendar calendarShardToSave = calendarShard;
+        PreparedSave save = () -> {
+            try {
+                writeShards(directoryPath, calendarShardToSave, weekShards, unreadableWeeks, isFullSave);
+            } catch (IOException e) {
+                if (isOwnDirectory) {
+                    needsFullSave = true;
+                }
+                throw e;
+            }
+
+            if (!unsavedWeeks.isEmpty()) {
+                throw new IOException(String.format(MESSAGE_UNREADABLE_WEEKS, unsavedWeeks.stream()
+                        .map(index -> String.valueOf(index + 1))
+                        .collect(Collectors.joining(", "))));
+            }
+        };
+
+        return isFullSave ? PreparedSave.fullSave(save) : save;
+    }
+
+    /**
+     * Writes the shards captured for a save. A full save also removes the shards of the weeks no longer in the
+     * calendar, except those of the weeks that could not be read.
+     */
+    private static void writeShards(Path directoryPath, JsonSerializableCalendar calendarShard,
+                                    Map<Integer, JsonSerializableWeek> weekShards, Set<Integer> unreadableWeeks,
+                                    boolean isFullSave) throws IOException {
+
+        Files.createDirectories(directoryPath);
+
+        if (calendarShard != null) {
+            JsonUtil.saveJsonFile(calendarShard, directoryPath.resolve(CALENDAR_SHARD));
+        }
+
+        for (Map.Entry<Integer, JsonSerializableWeek> weekShard : weekShards.entrySet()) {
+            Path weekShardPath = directoryPath.resolve(String.format(WEEK_SHARD_FORMAT, weekShard.getKey()));
+
+            if (weekShard.getValue().isEmpty()) {
+                Files.deleteIfExists(weekShardPath);
+            } else {
+                JsonUtil.saveJsonFile(weekShard.getValue(), weekShardPath);
+            }
+        }
+
+        if (!isFullSave) {
+            return;
+        }
+
+        for (Map.Entry<Integer, Path> staleShard : listWeekShards(directoryPath).entrySet()) {
+            if (!weekShards.containsKey(staleShard.getKey()) && !unreadableWeeks.contains(staleShard.getKey())) {
+                Files.delete(staleShard.getValue());
+            }
+        }
+    }
+
+    /**
+     * Parses a week shard into the loader of its activities and tasks.
+     */
+    private static WeekLoader readWeekShard(Path weekShardPath) throws DataConversionException {
+
+        Optional<JsonSerializableWeek> weekShard = JsonUtil.readJsonFile(weekShardPath, JsonSerializableWeek.class);
+        return weekShard.<WeekLoader>map(shard -> shard::addTo).orElse(calendar -> { });
+    }
+
+    /**
+     * Reads a week shard on a background reader, which can only fail with an unchecked exception.
+     */
+    private static WeekLoader readWeekShardInBackground(Path weekShardPath) {
+
+        try {
+            return readWeekShard(weekShardPath);
+        } catch (DataConversionException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static Thread newReaderThread(Runnable reader) {
+
+        Thread thread = new Thread(reader, "calendar-reader");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Lists the week shards in the directory, keyed by their zero-indexed week number.
+     */
+    private static Map<Integer, Path> listWeekShards(Path directoryPath) throws IOException {
+
+        Map<Integer, Path> weekShards = new TreeMap<>();
+
+        if (!Files.isDirectory(directoryPath)) {
+            return weekShards;
+        }
+
+        try (Stream<Path> files = Files.list(directoryPath)) {
+            files.forEach(path -> {
+                Matcher matcher = WEEK_SHARD_PATTERN.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    weekShards.put(Integer.parseInt(matcher.group(1)), path);
+                }
+            });
+        }
+
+        return weekShards;
+    }
+
+}
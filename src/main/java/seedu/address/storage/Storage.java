@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -18,4 +19,11 @@ public interface Storage extends CalendarStorage, UserPrefsStorage {
     @Override
     void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException;
 
+    /**
+     * Sets the handler to be told of failures in writing saves that were made in the background.
+     *
+     * @param saveFailureHandler the handler of the failures
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
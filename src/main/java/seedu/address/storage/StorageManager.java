@@ -1,8 +1,16 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,19 +21,42 @@ import seedu.address.model.calendar.ReadOnlyCalendar;
 
 /**
  * Manages storage of NOVA's data in local storage.
+ * <p>
+ * In the asynchronous save mode, saving the calendar only captures what needs to be saved, and the writing is left to
+ * a single background writer. The saves made within {@link #SAVE_DELAY_MILLIS} of each other are coalesced into one
+ * write, and failures are reported through the save failure handler.
  */
 public class StorageManager implements Storage {
 
+    public static final long SAVE_DELAY_MILLIS = 1000;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private final UserPrefsStorage userPrefsStorage;
     private final CalendarStorage calendarStorage;
+    private final ScheduledExecutorService saveWriter;
 
+    private PreparedSave pendingSave = PreparedSave.NONE;
+    private boolean isWriteScheduled = false;
+    private Consumer<IOException> saveFailureHandler = ioe -> { };
 
     public StorageManager(CalendarStorage calendarStorage, UserPrefsStorage userPrefsStorage) {
 
+        this(calendarStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Instantiates a new storage manager.
+     *
+     * @param calendarStorage  the storage of the calendar
+     * @param userPrefsStorage the storage of the user preferences
+     * @param isAsync          true if the calendar should be written in the background
+     */
+    public StorageManager(CalendarStorage calendarStorage, UserPrefsStorage userPrefsStorage, boolean isAsync) {
+
         super();
         this.calendarStorage = calendarStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.saveWriter = isAsync ? Executors.newSingleThreadScheduledExecutor(StorageManager::newWriterThread) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -70,10 +101,31 @@ public class StorageManager implements Storage {
         return calendarStorage.readCalendar(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyCalendar> readCalendarAround(LocalDate date) throws DataConversionException, IOException {
+
+        logger.fine("Attempting to read data around " + date + " from file: " + calendarStorage.getCalendarFilePath());
+        return calendarStorage.readCalendarAround(date);
+    }
+
     @Override
     public void saveCalendar(ReadOnlyCalendar calendar) throws IOException {
 
-        saveCalendar(calendar, calendarStorage.getCalendarFilePath());
+        if (saveWriter == null) {
+            saveCalendar(calendar, calendarStorage.getCalendarFilePath());
+            return;
+        }
+
+        PreparedSave save = prepareSave(calendar, calendarStorage.getCalendarFilePath());
+
+        synchronized (this) {
+            pendingSave = pendingSave.andThen(save);
+
+            if (pendingSave != PreparedSave.NONE && !isWriteScheduled) {
+                isWriteScheduled = true;
+                saveWriter.schedule(this::writePendingSave, SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
     }
 
     @Override
@@ -83,4 +135,74 @@ public class StorageManager implements Storage {
         calendarStorage.saveCalendar(calendar, filePath);
     }
 
+    @Override
+    public PreparedSave prepareSave(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+
+        return calendarStorage.prepareSave(calendar, filePath);
+    }
+
+    /**
+     * Writes any save still pending in the background, and forces the saved data onto the disk. Blocks until done.
+     *
+     * @throws IOException if there was an error during writing
+     */
+    @Override
+    public void flush() throws IOException {
+
+        if (saveWriter == null) {
+            calendarStorage.flush();
+            return;
+        }
+
+        try {
+            saveWriter.submit(() -> {
+                writePendingSave();
+                calendarStorage.flush();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while flushing the calendar", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException ? (IOException) e.getCause() : new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public synchronized void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+
+        this.saveFailureHandler = requireNonNull(saveFailureHandler);
+    }
+
+    /**
+     * Writes the pending save on the background writer.
+     */
+    private void writePendingSave() {
+
+        PreparedSave save;
+        Consumer<IOException> failureHandler;
+
+        synchronized (this) {
+            save = pendingSave;
+            pendingSave = PreparedSave.NONE;
+            isWriteScheduled = false;
+            failureHandler = saveFailureHandler;
+        }
+
+        try {
+            logger.fine("Attempting to write to data file: " + calendarStorage.getCalendarFilePath());
+            save.write();
+        } catch (IOException ioe) {
+            logger.warning("Failed to write to data file: " + ioe);
+            failureHandler.accept(ioe);
+        }
+    }
+
+    private static Thread newWriterThread(Runnable writer) {
+
+        Thread thread = new Thread(writer, "calendar-writer");
+        thread.setDaemon(true);
+        return thread;
+    }
+
 }
@@ -1,7 +1,9 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -12,7 +14,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.calendar.activity.Activity;
 
 /**
- * Panel containing the list of persons.
+ * Panel containing the list of activities. The panel keeps its own observable copy of the activities, as the model
+ * holds plain lists, and is refreshed after every command.
  */
 public class ActivityListPanel extends UiPart<Region> {
 
@@ -22,13 +25,26 @@ public class ActivityListPanel extends UiPart<Region> {
     @FXML
     private ListView<Activity> activityListView;
 
-    public ActivityListPanel(ObservableList<Activity> activityList) {
+    private final ObservableList<Activity> activities = FXCollections.observableArrayList();
+
+    public ActivityListPanel(List<Activity> activityList) {
 
         super(FXML);
-        activityListView.setItems(activityList);
+        activities.setAll(activityList);
+        activityListView.setItems(activities);
         activityListView.setCellFactory(listView -> new ActivityListViewCell());
     }
 
+    /**
+     * Replaces the activities shown in the panel.
+     *
+     * @param activityList the activities to show
+     */
+    public void setActivities(List<Activity> activityList) {
+
+        activities.setAll(activityList);
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
      */
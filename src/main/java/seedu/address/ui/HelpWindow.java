@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.constants.Messages.USERGUIDE_URL;
+
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
@@ -16,8 +18,6 @@ import seedu.address.commons.core.LogsCenter;
  */
 public class HelpWindow extends UiPart<Stage> {
 
-    public static final String USERGUIDE_URL = "https://github.com/xCelestialPhoenix/NOVA/"
-            + "blob/master/docs/UserGuide.adoc";
     public static final String HELP_MESSAGE = "Refer to the user guide: " + USERGUIDE_URL;
 
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
@@ -44,6 +45,9 @@ public class MainWindow extends UiPart<Stage> {
     private StatisticCard taskCompletionCard;
     private final HelpWindow helpWindow;
 
+    // Until the weeks left to storage are read, the statistics only cover the weeks loaded so far
+    private boolean isCalendarRead = false;
+
     @FXML
     private StackPane commandBoxPlaceholder;
 
@@ -109,6 +113,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         weekNumberCard = new WeekNumberCard(logic);
         weekNumberCardPlaceholder.getChildren().add(weekNumberCard.getRoot());
@@ -120,6 +125,10 @@ public class MainWindow extends UiPart<Stage> {
         taskCompletionCardPlaceholder.getChildren().add(taskCompletionCard.getRoot());
 
         updateStatistic();
+        logic.getPendingWeeksRead().thenRun(() -> Platform.runLater(() -> {
+            isCalendarRead = true;
+            updateStatistic();
+        }));
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -183,6 +192,7 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            updateLists();
             updateStatistic();
 
             if (commandResult.isShowHelp()) {
@@ -193,12 +203,6 @@ public class MainWindow extends UiPart<Stage> {
                 handleExit();
             }
 
-            if (commandResult.isResetCalendar()) {
-                activityListPanelPlaceholder.getChildren().clear();
-                activityListPanel = new ActivityListPanel(logic.getFilteredActivityList());
-                activityListPanelPlaceholder.getChildren().add(activityListPanel.getRoot());
-            }
-
             return commandResult;
         } catch (CommandException | ParseException e) {
             logger.info("Invalid command: " + commandText);
@@ -208,7 +212,17 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Updates the statistic cards
+     * Updates the lists of today's activities and this week's tasks
+     */
+    private void updateLists() {
+
+        activityListPanel.setActivities(logic.getFilteredActivityList());
+        taskListPanel.setTasks(logic.getFilteredTaskList());
+    }
+
+    /**
+     * Updates the statistic cards. Until the calendar has been read from storage, they are updated from the weeks
+     * loaded so far instead of waiting for the rest on the FX thread.
      */
     private void updateStatistic() {
 
@@ -218,7 +232,7 @@ public class MainWindow extends UiPart<Stage> {
                 (WeekNumberCard) weekNumberCard).updateData(newWeekNumber);
 
         //Update the next upcoming activity
-        Optional<Activity> activity = logic.getNextActivity();
+        Optional<Activity> activity = isCalendarRead ? logic.getNextActivity() : logic.getNextLoadedActivity();
 
         if (activity.isEmpty()) {
             nextActivityCard.updateData("", NextActivityCard.DATA_TEXT_FONT_SIZE);
@@ -229,8 +243,11 @@ public class MainWindow extends UiPart<Stage> {
 
         //Update task completion status
         TaskCompletionStatistics stats = logic.getTaskCompletionStats();
+        TaskCompletionStatistics semesterStats = isCalendarRead
+                ? logic.getTaskCompletionStats(1, newWeekNumber)
+                : logic.getLoadedTaskCompletionStats(1, newWeekNumber);
         (
-                (TaskCompletionCard) taskCompletionCard).updateData(stats);
+                (TaskCompletionCard) taskCompletionCard).updateData(stats, semesterStats);
     }
 
 }
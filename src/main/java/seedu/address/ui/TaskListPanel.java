@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
+import java.util.List;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -16,13 +18,26 @@ public class TaskListPanel extends UiPart<Region> {
     @FXML
     private ListView<Task> taskListView;
 
-    public TaskListPanel(ObservableList<Task> taskList) {
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
+
+    public TaskListPanel(List<Task> taskList) {
 
         super(FXML);
-        taskListView.setItems(taskList);
+        tasks.setAll(taskList);
+        taskListView.setItems(tasks);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
     }
 
+    /**
+     * Replaces the tasks shown in the panel.
+     *
+     * @param taskList the tasks to show
+     */
+    public void setTasks(List<Task> taskList) {
+
+        tasks.setAll(taskList);
+    }
+
     class TaskListViewCell extends ListCell<Task> {
 
         @Override
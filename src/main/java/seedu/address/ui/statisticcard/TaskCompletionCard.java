@@ -9,9 +9,10 @@ import seedu.address.model.calendar.task.TaskCompletionStatistics;
  */
 public class TaskCompletionCard extends StatisticCard {
 
-    public static final String CARD_TITLE = "Task completed:";
+    public static final String CARD_TITLE = "Task completed (week | sem):";
     private static final String LOGO_FILEPATH = "/images/tick.png";
-    private static final String DEFAULT_TASK_COMPLETION_STATS = new TaskCompletionStatistics().asFraction();
+    private static final String DEFAULT_TASK_COMPLETION_STATS = formatData(new TaskCompletionStatistics(),
+            new TaskCompletionStatistics());
     private static final int DATA_TEXT_FONT_SIZE = 26;
 
     public TaskCompletionCard() {
@@ -30,11 +31,18 @@ public class TaskCompletionCard extends StatisticCard {
     /**
      * Updates the current displayed statistics. There is no change if the completion status remains the same.
      *
-     * @param newStatistics the new statistics to update to
+     * @param weekStatistics     the new statistics of this week to update to
+     * @param semesterStatistics the new statistics of the semester so far to update to
      */
-    public void updateData(TaskCompletionStatistics newStatistics) {
+    public void updateData(TaskCompletionStatistics weekStatistics, TaskCompletionStatistics semesterStatistics) {
 
-        super.updateData(newStatistics.asFraction(), DATA_TEXT_FONT_SIZE);
+        super.updateData(formatData(weekStatistics, semesterStatistics), DATA_TEXT_FONT_SIZE);
+    }
+
+    private static String formatData(TaskCompletionStatistics weekStatistics,
+                                     TaskCompletionStatistics semesterStatistics) {
+
+        return weekStatistics.asFraction() + " | " + semesterStatistics.asFraction();
     }
 
 }
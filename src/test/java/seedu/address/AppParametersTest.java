@@ -40,6 +40,56 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_batchScriptArguments_success() {
+
+        expected.setBatchScriptPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--batch", "commands.txt"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--batch=commands.txt"}));
+    }
+
+    @Test
+    public void parse_configAndBatchScriptArguments_success() {
+
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setBatchScriptPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--config=config.json", "--batch", "commands.txt"}));
+    }
+
+    @Test
+    public void parse_batchWithoutScript_batchScriptNotSet() {
+
+        assertEquals(expected, AppParameters.parse(new String[] {"--batch"}));
+        assertEquals(expected, AppParameters.parse(new String[] {"--batch="}));
+
+        expected.setRepl(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--batch", "--repl"}));
+    }
+
+    @Test
+    public void parse_replFlag_success() {
+
+        expected.setRepl(true);
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--repl", "--config", "config.json"}));
+    }
+
+    @Test
+    public void parse_replFlagBeforeOtherArgument_argumentNotTaken() {
+
+        expected.setRepl(true);
+        assertEquals(expected, AppParameters.parse(new String[] {"--repl", "extra"}));
+
+        expected.setBatchScriptPath(Paths.get("commands.txt"));
+        assertEquals(expected, AppParameters.parse(new String[] {"--repl", "extra", "--batch", "commands.txt"}));
+    }
+
+    @Test
+    public void parse_noArguments_success() {
+
+        assertEquals(expected, AppParameters.parse(new String[0]));
+    }
+
     private static class ParametersStub extends Application.Parameters {
 
         private Map<String, String> namedParameters = new HashMap<>();
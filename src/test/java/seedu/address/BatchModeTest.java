@@ -0,0 +1,120 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.constants.Messages.MESSAGE_NO_SUCH_TASK;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.calendar.ReadOnlyCalendar;
+import seedu.address.model.calendar.task.Task;
+import seedu.address.storage.JsonCalendarStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchModeTest {
+
+    private static final String ADD_PROPOSAL = "task desc/Submit proposal d/14/01/2020 t/23:59 n/Draft first";
+    private static final String ADD_REPORT = "task desc/Submit report d/21/01/2020 t/23:59 n/Check figures";
+    private static final String REMOVE_MISSING_TASK = "remove d/15/01/2020 t/10:00";
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream errors = new ByteArrayOutputStream();
+    private final PrintStream originalErr = System.err;
+
+    private CountingCalendarStorage calendarStorage;
+    private BatchMode batchMode;
+
+    @BeforeEach
+    public void setUp() {
+
+        System.setErr(new PrintStream(errors, true));
+        calendarStorage = new CountingCalendarStorage(testFolder.resolve("calendar.json"));
+        batchMode = new BatchMode(new ModelManager(), new StorageManager(calendarStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("preferences.json"))));
+    }
+
+    @AfterEach
+    public void tearDown() {
+
+        System.setErr(originalErr);
+    }
+
+    @Test
+    public void run_validScript_commandsRunAndSavedOnce() throws Exception {
+
+        Path scriptPath = writeScript("# Tasks for the first two weeks", ADD_PROPOSAL, "", ADD_REPORT);
+
+        assertEquals(ExitStatus.SUCCESS, batchMode.run(scriptPath));
+        assertEquals(1, calendarStorage.saveCount);
+        assertEquals(2, readSavedTasks().size());
+        assertEquals("", errors.toString());
+    }
+
+    @Test
+    public void run_failingCommand_reportedWithLineNumberAndRestRun() throws Exception {
+
+        Path scriptPath = writeScript("# Tasks for the first two weeks", ADD_PROPOSAL, "", REMOVE_MISSING_TASK,
+                ADD_REPORT);
+
+        assertEquals(ExitStatus.COMMAND_FAILED, batchMode.run(scriptPath));
+        assertEquals(1, calendarStorage.saveCount);
+        assertEquals(2, readSavedTasks().size());
+        assertEquals(scriptPath + ":4: " + MESSAGE_NO_SUCH_TASK, errors.toString().strip());
+    }
+
+    @Test
+    public void run_missingScript_ioErrorAndNotSaved() {
+
+        assertEquals(ExitStatus.IO_ERROR, batchMode.run(testFolder.resolve("missing.txt")));
+        assertEquals(0, calendarStorage.saveCount);
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+
+        Path scriptPath = testFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(lines));
+        return scriptPath;
+    }
+
+    private List<Task> readSavedTasks() throws Exception {
+
+        ReadOnlyCalendar savedCalendar = new JsonCalendarStorage(calendarStorage.getCalendarFilePath())
+                .readCalendar().get();
+        return savedCalendar.getTasks();
+    }
+
+    /**
+     * A calendar storage that counts the times it saves the calendar.
+     */
+    private static class CountingCalendarStorage extends JsonCalendarStorage {
+
+        private int saveCount = 0;
+
+        CountingCalendarStorage(Path filePath) {
+
+            super(filePath);
+        }
+
+        @Override
+        public void saveCalendar(ReadOnlyCalendar calendar, Path filePath) throws IOException {
+
+            saveCount++;
+            super.saveCalendar(calendar, filePath);
+        }
+
+    }
+
+}
@@ -1,11 +1,18 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
 
+import seedu.address.testutil.TestUtil;
+
 public class FileUtilTest {
 
     @Test
@@ -20,4 +27,25 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically() throws IOException {
+        Path file = TestUtil.getFilePathInSandboxFolder("atomic/writeToFileAtomically.txt");
+        Path backup = FileUtil.getBackupPath(file);
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(backup);
+
+        // new file -> no backup kept
+        FileUtil.writeToFileAtomically(file, "first");
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(backup));
+
+        // existing file -> replaced, previous content kept as backup
+        FileUtil.writeToFileAtomically(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(backup));
+
+        // no temporary files left behind
+        assertEquals(2, Files.list(file.getParent()).count());
+    }
+
 }
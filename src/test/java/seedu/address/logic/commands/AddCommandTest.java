@@ -7,6 +7,7 @@ import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -172,13 +173,13 @@ public class AddCommandTest {
         }
 
         @Override
-        public ObservableList<Activity> viewActivityOnDate(LocalDate date) {
+        public List<Activity> viewActivityOnDate(LocalDate date) {
 
             return null;
         }
 
         @Override
-        public ObservableList<Activity> getFilteredActivityList() {
+        public List<Activity> getFilteredActivityList() {
 
             return null;
         }
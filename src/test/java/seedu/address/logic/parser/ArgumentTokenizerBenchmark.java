@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_DATE;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_DESCRIPTION;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_END_TIME;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_NOTES;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_START_TIME;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_TYPE;
+import static seedu.address.logic.constants.PrefixConstants.PREFIX_VENUE;
+
+/**
+ * Measures the throughput of {@code ArgumentTokenizer} on the arguments of typical add commands.
+ * <p>
+ * This is not run as part of the tests. Run it with {@code gradlew benchmark}.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final String[] ARGS_STRINGS = {
+        " t/meeting desc/Project Meeting v/School d/19/04/2020 st/10:00 et/11:00 n/Prepare findings",
+        " t/lesson desc/CS2103T Lecture v/i3 Auditorium d/17/04/2020 st/14:00 et/16:00 n/",
+        " desc/Submit report d/20/04/2020 t/23:59 n/Upload to LumiNUS as a single pdf file",
+    };
+    private static final Prefix[] PREFIXES = {PREFIX_TYPE, PREFIX_DESCRIPTION, PREFIX_VENUE, PREFIX_DATE,
+        PREFIX_START_TIME, PREFIX_END_TIME, PREFIX_NOTES};
+
+    private static final int WARM_UP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 10;
+    private static final int TOKENIZATIONS_PER_ROUND = 1_000_000;
+
+    public static void main(String[] args) {
+
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            runRound();
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long totalNanos = 0;
+
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long nanos = runRound();
+            bestNanos = Math.min(bestNanos, nanos);
+            totalNanos += nanos;
+        }
+
+        double averageNanos = (double) totalNanos / MEASURED_ROUNDS;
+        System.out.printf("ArgumentTokenizer: %.0f tokenizations/s on average, %.0f at best (%.1f ns each)%n",
+                TOKENIZATIONS_PER_ROUND * 1e9 / averageNanos,
+                TOKENIZATIONS_PER_ROUND * 1e9 / bestNanos,
+                (double) bestNanos / TOKENIZATIONS_PER_ROUND);
+    }
+
+    /**
+     * Tokenizes the arguments strings in turn, returning the time taken in nanoseconds.
+     */
+    private static long runRound() {
+
+        int checksum = 0;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < TOKENIZATIONS_PER_ROUND; i++) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(ARGS_STRINGS[i % ARGS_STRINGS.length], PREFIXES);
+            checksum += argMultimap.getPreamble().length();
+        }
+
+        long nanos = System.nanoTime() - start;
+
+        // Uses the results, so that the tokenizing cannot be optimised away
+        if (checksum != 0) {
+            throw new AssertionError("Unexpected preamble");
+        }
+        return nanos;
+    }
+
+}
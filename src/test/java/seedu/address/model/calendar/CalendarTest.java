@@ -0,0 +1,115 @@
+package seedu.address.model.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.calendar.Calendar.CALENDAR_DEFAULT_START_DATE;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.ActivityReference;
+import seedu.address.model.calendar.activity.Lesson;
+import seedu.address.model.calendar.activity.Meeting;
+
+public class CalendarTest {
+
+    private static final LocalDate MONDAY = CALENDAR_DEFAULT_START_DATE;
+    private static final LocalDate TUESDAY = MONDAY.plusDays(1);
+    private static final LocalDate WEDNESDAY = MONDAY.plusDays(2);
+
+    private static final LocalTime END_OF_DAY = LocalTime.MAX;
+
+    private final Calendar calendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+
+    @Test
+    public void findFreeSlots_emptyDays_wholeDaysFree() {
+
+        assertEquals(List.of(new FreeSlot(MONDAY, LocalTime.MIDNIGHT, END_OF_DAY),
+                new FreeSlot(TUESDAY, LocalTime.MIDNIGHT, END_OF_DAY)),
+                calendar.findFreeSlots(MONDAY, TUESDAY, Duration.ofMinutes(1), LocalTime.MIDNIGHT, END_OF_DAY, 5));
+    }
+
+    @Test
+    public void findFreeSlots_wholeDayDuration_emptyDayFound() {
+
+        List<FreeSlot> freeSlots = calendar.findFreeSlots(MONDAY, MONDAY, Duration.ofDays(1), LocalTime.MIDNIGHT,
+                END_OF_DAY, 5);
+
+        assertEquals(List.of(new FreeSlot(MONDAY, LocalTime.MIDNIGHT, END_OF_DAY)), freeSlots);
+        assertEquals(Duration.ofDays(1), freeSlots.get(0).getDuration());
+    }
+
+    @Test
+    public void findFreeSlots_fullyOccupiedDay_noFreeSlots() {
+
+        occupy(MONDAY, LocalTime.MIDNIGHT, LocalTime.NOON);
+        occupy(MONDAY, LocalTime.NOON, LocalTime.of(23, 59));
+
+        assertEquals(List.of(), calendar.findFreeSlots(MONDAY, MONDAY, Duration.ofMinutes(1), LocalTime.MIDNIGHT,
+                LocalTime.of(23, 59), 5));
+
+        // Only the last minute of the day is left
+        assertEquals(List.of(new FreeSlot(MONDAY, LocalTime.of(23, 59), END_OF_DAY)),
+                calendar.findFreeSlots(MONDAY, MONDAY, Duration.ofMinutes(1), LocalTime.MIDNIGHT, END_OF_DAY, 5));
+    }
+
+    @Test
+    public void findFreeSlots_gapsBetweenActivities_gapsLongEnoughFound() {
+
+        occupy(MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 0));
+        occupy(MONDAY, LocalTime.of(10, 30), LocalTime.of(12, 0));
+        occupy(MONDAY, LocalTime.of(13, 0), LocalTime.of(17, 0));
+
+        assertEquals(List.of(new FreeSlot(MONDAY, LocalTime.of(8, 0), LocalTime.of(9, 0)),
+                new FreeSlot(MONDAY, LocalTime.of(12, 0), LocalTime.of(13, 0)),
+                new FreeSlot(MONDAY, LocalTime.of(17, 0), LocalTime.of(18, 0))),
+                calendar.findFreeSlots(MONDAY, MONDAY, Duration.ofMinutes(60), LocalTime.of(8, 0),
+                        LocalTime.of(18, 0), 5));
+    }
+
+    @Test
+    public void findFreeSlots_maxSlotsReached_earliestSlotsFound() {
+
+        occupy(MONDAY, LocalTime.NOON, LocalTime.of(13, 0));
+
+        assertEquals(List.of(new FreeSlot(MONDAY, LocalTime.MIDNIGHT, LocalTime.NOON),
+                new FreeSlot(MONDAY, LocalTime.of(13, 0), END_OF_DAY),
+                new FreeSlot(TUESDAY, LocalTime.MIDNIGHT, END_OF_DAY)),
+                calendar.findFreeSlots(MONDAY, WEDNESDAY, Duration.ofMinutes(60), LocalTime.MIDNIGHT, END_OF_DAY,
+                        3));
+    }
+
+    @Test
+    public void copy_lessonOccurrenceDeleted_occurrenceStillCancelled() {
+
+        // Every occurrence of the lesson is still to come
+        LocalDate nextMonday = LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+        Calendar upcomingCalendar = new Calendar(nextMonday);
+        Lesson lesson = new Lesson("CS2103T Lecture", "i3 Auditorium", DayOfWeek.TUESDAY, LocalTime.of(14, 0),
+                LocalTime.of(16, 0), "");
+
+        upcomingCalendar.addActivity(lesson);
+        upcomingCalendar.deleteActivity(new ActivityReference(nextMonday.plusDays(1), lesson.getStartTime()));
+
+        Activity nextLesson = new Lesson(lesson, nextMonday.plusDays(8));
+        assertEquals(Optional.of(nextLesson), upcomingCalendar.getNextActivity());
+        assertEquals(nextLesson.getDate(), new Calendar(upcomingCalendar).getNextActivity().get().getDate());
+
+        Calendar resetCalendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+        resetCalendar.resetCalendar(upcomingCalendar);
+        assertEquals(nextLesson.getDate(), resetCalendar.getNextActivity().get().getDate());
+    }
+
+    private void occupy(LocalDate date, LocalTime startTime, LocalTime endTime) {
+
+        calendar.addActivity(new Meeting("Meeting", "School", date, startTime, endTime, ""));
+    }
+
+}
@@ -0,0 +1,40 @@
+package seedu.address.model.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.constants.CalendarConstants.RECESS_WEEK;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.calendar.activity.Lesson;
+
+public class TimetableTest {
+
+    private static final Lesson LECTURE = new Lesson("CS2103T Lecture", "i3 Auditorium", DayOfWeek.TUESDAY,
+            LocalTime.of(14, 0), LocalTime.of(16, 0), "");
+
+    private final Timetable timetable = new Timetable();
+
+    @Test
+    public void getLessonsOn_teachingWeek_lessonsOfDay() {
+
+        timetable.addLesson(LECTURE);
+        assertEquals(List.of(LECTURE), timetable.getLessonsOn(DayOfWeek.TUESDAY, 1).asUnmodifiableList());
+    }
+
+    @Test
+    public void getLessonsOn_nonTeachingWeek_emptyListThatCannotBeAddedTo() {
+
+        timetable.addLesson(LECTURE);
+        assertEquals(List.of(), timetable.getLessonsOn(DayOfWeek.TUESDAY, RECESS_WEEK).asUnmodifiableList());
+        assertThrows(UnsupportedOperationException.class, () ->
+                timetable.getLessonsOn(DayOfWeek.TUESDAY, RECESS_WEEK).add(LECTURE));
+        assertThrows(UnsupportedOperationException.class, () ->
+                new Timetable().getLessonsOn(DayOfWeek.MONDAY, RECESS_WEEK).addAll(List.of(LECTURE)));
+    }
+
+}
@@ -0,0 +1,61 @@
+package seedu.address.model.calendar.activity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.calendar.Calendar.CALENDAR_DEFAULT_START_DATE;
+import static seedu.address.model.calendar.activity.OccupancyBitmap.MINUTES_PER_DAY;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+public class OccupancyBitmapTest {
+
+    @Test
+    public void nextFreeMinute_emptyDay_sameMinute() {
+
+        OccupancyBitmap occupancy = new OccupancyBitmap();
+
+        assertEquals(0, occupancy.nextFreeMinute(0));
+        assertEquals(MINUTES_PER_DAY - 1, occupancy.nextFreeMinute(MINUTES_PER_DAY - 1));
+        assertEquals(MINUTES_PER_DAY, occupancy.nextOccupiedMinute(0));
+    }
+
+    @Test
+    public void nextFreeMinute_fullyOccupiedDay_endOfDay() {
+
+        OccupancyBitmap occupancy = new OccupancyBitmap();
+        occupancy.occupy(meeting(LocalTime.MIDNIGHT, LocalTime.MAX));
+
+        assertEquals(MINUTES_PER_DAY, occupancy.nextFreeMinute(0));
+        assertEquals(0, occupancy.nextOccupiedMinute(0));
+        assertFalse(occupancy.isFree(LocalTime.of(23, 59), LocalTime.MAX));
+    }
+
+    @Test
+    public void nextOccupiedMinute_endOfActivity_nextActivity() {
+
+        OccupancyBitmap occupancy = new OccupancyBitmap();
+        occupancy.occupy(meeting(LocalTime.of(9, 0), LocalTime.of(10, 0)));
+        occupancy.occupy(meeting(LocalTime.of(11, 0), LocalTime.of(12, 0)));
+
+        assertEquals(9 * 60, occupancy.nextOccupiedMinute(0));
+        assertEquals(10 * 60, occupancy.nextFreeMinute(9 * 60));
+        assertEquals(11 * 60, occupancy.nextOccupiedMinute(10 * 60));
+        assertTrue(occupancy.isFree(LocalTime.of(10, 0), LocalTime.of(11, 0)));
+    }
+
+    @Test
+    public void toEndMinute_endOfDay_minutesPerDay() {
+
+        assertEquals(MINUTES_PER_DAY - 1, OccupancyBitmap.toEndMinute(LocalTime.of(23, 59)));
+        assertEquals(MINUTES_PER_DAY, OccupancyBitmap.toEndMinute(LocalTime.MAX));
+    }
+
+    private static Meeting meeting(LocalTime startTime, LocalTime endTime) {
+
+        return new Meeting("Meeting", "School", CALENDAR_DEFAULT_START_DATE, startTime, endTime, "");
+    }
+
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.calendar.Calendar.CALENDAR_DEFAULT_START_DATE;
+import static seedu.address.storage.BinaryCalendarStorage.MESSAGE_TRUNCATED_FILE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.ReadOnlyCalendar;
+import seedu.address.model.calendar.activity.Lesson;
+import seedu.address.model.calendar.activity.Meeting;
+import seedu.address.model.calendar.task.Task;
+
+public class BinaryCalendarStorageTest {
+
+    // The magic number, format version and start date come before the number of strings
+    private static final int STRING_COUNT_OFFSET = Integer.BYTES + Short.BYTES + Integer.BYTES;
+    private static final int FIRST_STRING_LENGTH_OFFSET = STRING_COUNT_OFFSET + Integer.BYTES;
+
+    private static final String MESSAGE_TRUNCATED_FILE_ERROR =
+            new IllegalValueException(MESSAGE_TRUNCATED_FILE).toString();
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCalendar_savedCalendar_sameCalendarRead() throws Exception {
+
+        Path filePath = testFolder.resolve("calendar" + BinaryCalendarStorage.FILE_EXTENSION);
+        Calendar original = getCalendar();
+        BinaryCalendarStorage storage = new BinaryCalendarStorage(filePath);
+
+        storage.saveCalendar(original);
+        ReadOnlyCalendar read = storage.readCalendar().get();
+
+        assertEquals(original.getStartDate(), read.getStartDate());
+        assertEquals(original.getActivities(), read.getActivities());
+        assertEquals(original.getTasks(), read.getTasks());
+        assertTrue(read.getTasks().get(0).isCompleted());
+    }
+
+    @Test
+    public void readCalendar_negativeStringCount_throwsDataConversionException() throws Exception {
+
+        Path filePath = saveCorrupted(STRING_COUNT_OFFSET, -1);
+        assertThrows(DataConversionException.class, MESSAGE_TRUNCATED_FILE_ERROR, () ->
+                new BinaryCalendarStorage(filePath).readCalendar());
+    }
+
+    @Test
+    public void readCalendar_hugeStringCount_throwsDataConversionException() throws Exception {
+
+        Path filePath = saveCorrupted(STRING_COUNT_OFFSET, Integer.MAX_VALUE);
+        assertThrows(DataConversionException.class, MESSAGE_TRUNCATED_FILE_ERROR, () ->
+                new BinaryCalendarStorage(filePath).readCalendar());
+    }
+
+    @Test
+    public void readCalendar_negativeStringLength_throwsDataConversionException() throws Exception {
+
+        Path filePath = saveCorrupted(FIRST_STRING_LENGTH_OFFSET, Integer.MIN_VALUE);
+        assertThrows(DataConversionException.class, MESSAGE_TRUNCATED_FILE_ERROR, () ->
+                new BinaryCalendarStorage(filePath).readCalendar());
+    }
+
+    @Test
+    public void readCalendar_hugeStringLength_throwsDataConversionException() throws Exception {
+
+        Path filePath = saveCorrupted(FIRST_STRING_LENGTH_OFFSET, Integer.MAX_VALUE);
+        assertThrows(DataConversionException.class, MESSAGE_TRUNCATED_FILE_ERROR, () ->
+                new BinaryCalendarStorage(filePath).readCalendar());
+    }
+
+    /**
+     * Saves a calendar, then overwrites the int at {@code offset} in its file with {@code value}.
+     */
+    private Path saveCorrupted(int offset, int value) throws Exception {
+
+        Path filePath = testFolder.resolve("corrupted" + BinaryCalendarStorage.FILE_EXTENSION);
+        new BinaryCalendarStorage(filePath).saveCalendar(getCalendar());
+
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        content.putInt(offset, value);
+        Files.write(filePath, content.array());
+
+        return filePath;
+    }
+
+    private static Calendar getCalendar() {
+
+        Calendar calendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+        calendar.addActivity(new Lesson("CS2103T Lecture", "i3 Auditorium", DayOfWeek.FRIDAY,
+                LocalTime.of(14, 0), LocalTime.of(16, 0), ""));
+        calendar.addActivity(new Meeting("Project Meeting", "School", CALENDAR_DEFAULT_START_DATE.plusDays(1),
+                LocalTime.of(10, 0), LocalTime.of(11, 0), "Prepare findings"));
+
+        Task task = new Task("Submit report", CALENDAR_DEFAULT_START_DATE.plusWeeks(2), LocalTime.of(23, 59), "");
+        task.complete();
+        calendar.addTask(task);
+
+        return calendar;
+    }
+
+}
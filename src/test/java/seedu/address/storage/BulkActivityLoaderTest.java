@@ -0,0 +1,142 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.calendar.Calendar.CALENDAR_DEFAULT_START_DATE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.ActivityReference;
+import seedu.address.model.calendar.activity.Lesson;
+import seedu.address.model.calendar.activity.Meeting;
+
+public class BulkActivityLoaderTest {
+
+    private static final LocalDate TUESDAY = CALENDAR_DEFAULT_START_DATE.plusDays(1);
+    private static final LocalDate TUESDAY_OF_RECESS_WEEK = TUESDAY.plusWeeks(6);
+
+    private static final Lesson LECTURE = new Lesson("CS2103T Lecture", "i3 Auditorium", DayOfWeek.TUESDAY,
+            LocalTime.of(14, 0), LocalTime.of(16, 0), "");
+
+    private final Calendar calendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+    private final BulkActivityLoader loader = new BulkActivityLoader();
+
+    @Test
+    public void loadInto_duplicateActivities_throwsIllegalValueException() {
+
+        loader.add(meeting("Project Meeting", TUESDAY, 10, 11));
+        loader.add(meeting("Project Meeting", TUESDAY, 10, 11));
+
+        assertThrows(IllegalValueException.class, "The activity already exists in the calendar: "
+                + "\"Project Meeting\" (10:00 - 11:00) on 14/01/2020", () -> loader.loadInto(calendar));
+    }
+
+    @Test
+    public void loadInto_sameStartTime_throwsIllegalValueException() {
+
+        loader.add(meeting("Project Meeting", TUESDAY, 10, 11));
+        loader.add(meeting("Consultation", TUESDAY, 10, 12));
+
+        assertThrows(IllegalValueException.class, "Activities clash on 14/01/2020: "
+                + "\"Project Meeting\" (10:00 - 11:00) and \"Consultation\" (10:00 - 12:00)", () ->
+                loader.loadInto(calendar));
+    }
+
+    @Test
+    public void loadInto_overlapWithEarlierActivity_throwsIllegalValueException() {
+
+        // The clash is with the activity that ends the latest, not the one just before
+        loader.add(meeting("Hackathon", TUESDAY, 8, 18));
+        loader.add(meeting("Project Meeting", TUESDAY, 10, 11));
+        loader.add(meeting("Consultation", TUESDAY, 12, 13));
+
+        assertThrows(IllegalValueException.class, "Activities clash on 14/01/2020: "
+                + "\"Hackathon\" (08:00 - 18:00) and \"Project Meeting\" (10:00 - 11:00)", () ->
+                loader.loadInto(calendar));
+    }
+
+    @Test
+    public void loadInto_meetingOverLessonOnDate_lessonOccurrenceDeleted() throws Exception {
+
+        Activity meeting = meeting("Project Meeting", TUESDAY, 15, 17);
+
+        loader.add(LECTURE);
+        loader.add(meeting);
+        loader.loadInto(calendar);
+
+        assertEquals(List.of(meeting), calendar.viewActivityOnDate(TUESDAY));
+        assertEquals(List.of(new Lesson(LECTURE, TUESDAY.plusWeeks(1))),
+                calendar.viewActivityOnDate(TUESDAY.plusWeeks(1)));
+    }
+
+    @Test
+    public void loadInto_savedCalendarWithMeetingInPlaceOfDeletedLesson_loaded() throws Exception {
+
+        Activity meeting = meeting("Project Meeting", TUESDAY, 15, 17);
+
+        // Only the timetable is saved, so the deleted occurrence of the lecture is not
+        calendar.addActivity(LECTURE);
+        calendar.deleteActivity(new ActivityReference(TUESDAY, LECTURE.getStartTime()));
+        calendar.addActivity(meeting);
+        Calendar savedCalendar = new JsonSerializableCalendar(calendar).toModelType();
+
+        assertEquals(List.of(meeting), savedCalendar.viewActivityOnDate(TUESDAY));
+        assertEquals(List.of(LECTURE), savedCalendar.getTimetable().getLessons());
+    }
+
+    @Test
+    public void loadInto_overlappingLessons_throwsIllegalValueException() {
+
+        loader.add(LECTURE);
+        loader.add(new Lesson("CS2101 Sectional", "COM1", DayOfWeek.TUESDAY, LocalTime.of(15, 0),
+                LocalTime.of(17, 0), ""));
+
+        assertThrows(IllegalValueException.class, "Activities clash on tuesday: "
+                + "\"CS2103T Lecture\" (14:00 - 16:00) and \"CS2101 Sectional\" (15:00 - 17:00)", () ->
+                loader.loadInto(calendar));
+    }
+
+    @Test
+    public void loadInto_backToBackActivities_allLoaded() throws Exception {
+
+        Activity morningMeeting = meeting("Project Meeting", TUESDAY, 11, 12);
+        Activity afternoonMeeting = meeting("Consultation", TUESDAY, 12, 14);
+        Activity eveningMeeting = meeting("Dinner", TUESDAY, 16, 18);
+
+        // Added out of order, as they may be in the file
+        loader.add(afternoonMeeting);
+        loader.add(LECTURE);
+        loader.add(eveningMeeting);
+        loader.add(morningMeeting);
+        loader.loadInto(calendar);
+
+        assertEquals(List.of(morningMeeting, afternoonMeeting, new Lesson(LECTURE, TUESDAY), eveningMeeting),
+                calendar.viewActivityOnDate(TUESDAY));
+    }
+
+    @Test
+    public void loadInto_overlapWithLessonOutsideTeachingWeeks_loaded() throws Exception {
+
+        Activity meeting = meeting("Project Meeting", TUESDAY_OF_RECESS_WEEK, 15, 17);
+
+        loader.add(LECTURE);
+        loader.add(meeting);
+        loader.loadInto(calendar);
+
+        assertEquals(List.of(meeting), calendar.viewActivityOnDate(TUESDAY_OF_RECESS_WEEK));
+    }
+
+    private static Meeting meeting(String description, LocalDate date, int startHour, int endHour) {
+
+        return new Meeting(description, "School", date, LocalTime.of(startHour, 0), LocalTime.of(endHour, 0), "");
+    }
+
+}
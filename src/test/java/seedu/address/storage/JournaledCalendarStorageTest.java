@@ -0,0 +1,110 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.calendar.Calendar.CALENDAR_DEFAULT_START_DATE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.ActivityReference;
+import seedu.address.model.calendar.activity.Meeting;
+
+public class JournaledCalendarStorageTest {
+
+    private static final LocalDate DATE = CALENDAR_DEFAULT_START_DATE.plusDays(1);
+    private static final Activity CANCELLED_MEETING = new Meeting("Project Meeting", "School", DATE,
+            LocalTime.of(10, 0), LocalTime.of(11, 0), "");
+    private static final Activity MEETING = new Meeting("Consultation", "COM1", DATE,
+            LocalTime.of(10, 0), LocalTime.of(12, 0), "");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCalendar_journalAfterSnapshot_changesReplayed() throws Exception {
+
+        Path filePath = testFolder.resolve("calendar.json");
+        JournaledCalendarStorage storage = new JournaledCalendarStorage(filePath);
+        Calendar calendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+        storage.saveCalendar(calendar);
+
+        makeChanges(storage, calendar);
+
+        assertEquals(List.of(MEETING), new JournaledCalendarStorage(filePath).readCalendar().get().getActivities());
+    }
+
+    @Test
+    public void readCalendar_journalLeftBehindByCompaction_recordsSkipped() throws Exception {
+
+        Path filePath = testFolder.resolve("calendar.json");
+        Path journalPath = JournaledCalendarStorage.getJournalPath(filePath);
+        JournaledCalendarStorage storage = new JournaledCalendarStorage(filePath);
+        Calendar calendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+        storage.saveCalendar(calendar);
+
+        makeChanges(storage, calendar);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // Resetting the calendar compacts the journal into a new snapshot
+        Calendar resetCalendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+        resetCalendar.addActivity(MEETING);
+        calendar.resetCalendar(resetCalendar);
+        storage.saveCalendar(calendar);
+
+        // As if the app crashed after the snapshot was written but before the journal was deleted
+        Files.write(journalPath, journal);
+
+        assertEquals(List.of(MEETING), new JournaledCalendarStorage(filePath).readCalendar().get().getActivities());
+    }
+
+    @Test
+    public void readCalendar_illegalRecordInJournal_replayStoppedAndRestMovedAside() throws Exception {
+
+        Path filePath = testFolder.resolve("calendar.json");
+        Path journalPath = JournaledCalendarStorage.getJournalPath(filePath);
+        JournaledCalendarStorage storage = new JournaledCalendarStorage(filePath);
+        Calendar calendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+        storage.saveCalendar(calendar);
+
+        makeChanges(storage, calendar);
+        List<String> records = Files.readAllLines(journalPath);
+        Files.write(journalPath, List.of(records.get(0), "not a record", records.get(2)));
+
+        JournaledCalendarStorage restartedStorage = new JournaledCalendarStorage(filePath);
+        Calendar readCalendar = (Calendar) restartedStorage.readCalendar().get();
+
+        assertEquals(List.of(CANCELLED_MEETING), readCalendar.getActivities());
+        assertEquals(List.of("not a record", records.get(2)),
+                Files.readAllLines(JournaledCalendarStorage.getRejectedRecordsPath(journalPath)));
+
+        // The records after the illegal one are no longer replayed, and new records follow the ones replayed
+        readCalendar.deleteActivity(new ActivityReference(DATE, CANCELLED_MEETING.getStartTime()));
+        restartedStorage.saveCalendar(readCalendar);
+        restartedStorage.flush();
+
+        assertEquals(List.of(), new JournaledCalendarStorage(filePath).readCalendar().get().getActivities());
+    }
+
+    /**
+     * Adds a meeting, deletes it and adds another at the same time, saving after each change.
+     */
+    private static void makeChanges(JournaledCalendarStorage storage, Calendar calendar) throws Exception {
+
+        calendar.addActivity(CANCELLED_MEETING);
+        storage.saveCalendar(calendar);
+        calendar.deleteActivity(new ActivityReference(DATE, CANCELLED_MEETING.getStartTime()));
+        storage.saveCalendar(calendar);
+        calendar.addActivity(MEETING);
+        storage.saveCalendar(calendar);
+        storage.flush();
+    }
+
+}
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.ReadOnlyCalendar;
+import seedu.address.model.calendar.activity.Activity;
+import seedu.address.model.calendar.activity.Lesson;
+import seedu.address.model.calendar.activity.Meeting;
+
+public class JsonSerializableCalendarTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableCalendarTest");
+    private static final Path OLD_FORMAT_FILE = TEST_DATA_FOLDER.resolve("oldFormatCalendar.json");
+
+    private static final Lesson LECTURE = new Lesson("CS2103T Lecture", "i3 Auditorium", DayOfWeek.TUESDAY,
+            LocalTime.of(14, 0), LocalTime.of(16, 0), "");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void toModelType_oldFormatFile_lessonCopiesReadAsOneLesson() throws Exception {
+
+        Calendar calendar = readOldFormatFile();
+
+        assertEquals(List.of(LECTURE), calendar.streamLessons().collect(Collectors.toList()));
+        assertEquals(List.of(LocalDate.of(2020, 1, 15), LocalDate.of(2020, 1, 22)),
+                getMeetings(calendar).stream().map(Activity::getDate).collect(Collectors.toList()));
+        assertEquals(1, calendar.getTasks().size());
+    }
+
+    @Test
+    public void toModelType_oldFormatFileSavedAgain_savedInNewFormat() throws Exception {
+
+        Calendar calendar = readOldFormatFile();
+        Path savedFile = testFolder.resolve("calendar.json");
+        JsonUtil.saveJsonFile(new JsonSerializableCalendar(calendar), savedFile);
+
+        String savedJson = Files.readString(savedFile);
+        assertTrue(savedJson.contains("\"lessons\""));
+        assertTrue(savedJson.contains("\"meetings\""));
+        assertFalse(savedJson.contains("\"activities\""));
+
+        Calendar savedCalendar = JsonUtil.readJsonFile(savedFile, JsonSerializableCalendar.class).get()
+                .toModelType();
+        assertEquals(calendar.streamLessons().collect(Collectors.toList()),
+                savedCalendar.streamLessons().collect(Collectors.toList()));
+        assertEquals(getMeetings(calendar), getMeetings(savedCalendar));
+        assertEquals(calendar.getTasks(), savedCalendar.getTasks());
+    }
+
+    private static Calendar readOldFormatFile() throws Exception {
+
+        return JsonUtil.readJsonFile(OLD_FORMAT_FILE, JsonSerializableCalendar.class).get().toModelType();
+    }
+
+    private static List<Activity> getMeetings(ReadOnlyCalendar calendar) {
+
+        return calendar.streamActivities()
+                .filter(activity -> activity instanceof Meeting)
+                .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,221 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.calendar.Calendar.CALENDAR_DEFAULT_START_DATE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.calendar.Calendar;
+import seedu.address.model.calendar.ReadOnlyCalendar;
+import seedu.address.model.calendar.task.Task;
+import seedu.address.model.calendar.task.TaskReference;
+
+public class ShardedCalendarStorageTest {
+
+    private static final String CORRUPTED_SHARD = "not a week shard";
+    private static final String CALENDAR_SHARD = "calendar.json";
+    private static final FileTime LONG_AGO = FileTime.fromMillis(0);
+
+    // Zero-indexed, and far enough from the start date to be left pending when read around it
+    private static final int LATER_WEEK = 9;
+
+    private static final Task TASK_IN_FIRST_WEEK = new Task("Submit proposal", CALENDAR_DEFAULT_START_DATE,
+            LocalTime.of(23, 59), "");
+    private static final Task TASK_IN_LATER_WEEK = new Task("Submit report",
+            CALENDAR_DEFAULT_START_DATE.plusWeeks(LATER_WEEK), LocalTime.of(23, 59), "");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void prepareSave_taskCompleted_onlyItsWeekRewritten() throws Exception {
+
+        Path directoryPath = saveCalendarWithTasks();
+        ShardedCalendarStorage storage = new ShardedCalendarStorage(directoryPath);
+        Calendar calendar = (Calendar) storage.readCalendar().get();
+        markAllShardsLongAgo(directoryPath);
+
+        calendar.completeTask(new TaskReference(TASK_IN_LATER_WEEK.getDueDate(),
+                TASK_IN_LATER_WEEK.getDueTime()));
+        PreparedSave save = storage.prepareSave(calendar, directoryPath);
+        save.write();
+
+        assertFalse(save.isFullSave());
+        assertTrue(Files.getLastModifiedTime(weekShardPath(directoryPath, LATER_WEEK)).compareTo(LONG_AGO) > 0);
+        assertEquals(LONG_AGO, Files.getLastModifiedTime(weekShardPath(directoryPath, 0)));
+        assertEquals(LONG_AGO, Files.getLastModifiedTime(directoryPath.resolve(CALENDAR_SHARD)));
+        assertTrue(storage.readCalendar().get().getTasks().stream()
+                .anyMatch(task -> task.equals(TASK_IN_LATER_WEEK) && task.isCompleted()));
+    }
+
+    @Test
+    public void prepareSave_unchangedCalendar_nothingWritten() throws Exception {
+
+        Path directoryPath = saveCalendarWithTasks();
+        ShardedCalendarStorage storage = new ShardedCalendarStorage(directoryPath);
+        ReadOnlyCalendar calendar = storage.readCalendar().get();
+
+        assertEquals(PreparedSave.NONE, storage.prepareSave(calendar, directoryPath));
+    }
+
+    @Test
+    public void prepareSave_afterFailedWrite_fullSave() throws Exception {
+
+        Path directoryPath = saveCalendarWithTasks();
+        ShardedCalendarStorage storage = new ShardedCalendarStorage(directoryPath);
+        Calendar calendar = (Calendar) storage.readCalendar().get();
+
+        // A directory in the way of the week shard makes the write fail
+        Path weekShardPath = weekShardPath(directoryPath, LATER_WEEK);
+        Files.delete(weekShardPath);
+        Files.createDirectories(weekShardPath.resolve("blocker"));
+
+        calendar.completeTask(new TaskReference(TASK_IN_LATER_WEEK.getDueDate(),
+                TASK_IN_LATER_WEEK.getDueTime()));
+        assertThrows(IOException.class, () -> storage.saveCalendar(calendar));
+
+        Files.delete(weekShardPath.resolve("blocker"));
+        Files.delete(weekShardPath);
+        markAllShardsLongAgo(directoryPath);
+
+        // The calendar has not changed since, but the failed write may have left the shards behind it
+        PreparedSave save = storage.prepareSave(calendar, directoryPath);
+        save.write();
+
+        assertTrue(save.isFullSave());
+        assertTrue(Files.getLastModifiedTime(weekShardPath(directoryPath, 0)).compareTo(LONG_AGO) > 0);
+        assertTrue(storage.readCalendar().get().getTasks().stream()
+                .anyMatch(task -> task.equals(TASK_IN_LATER_WEEK) && task.isCompleted()));
+    }
+
+    @Test
+    public void readCalendar_weekShardWithoutTasks_otherWeeksRead() throws Exception {
+
+        Path directoryPath = saveCalendarWithTasks();
+        Files.writeString(weekShardPath(directoryPath, LATER_WEEK), "{ \"activities\" : [ ] }");
+
+        ReadOnlyCalendar calendar = new ShardedCalendarStorage(directoryPath).readCalendar().get();
+
+        assertTrue(calendar.hasTask(TASK_IN_FIRST_WEEK));
+        assertFalse(calendar.hasTask(TASK_IN_LATER_WEEK));
+    }
+
+    @Test
+    public void readCalendarAround_unreadablePendingWeek_recordedAsUnreadable() throws Exception {
+
+        Path directoryPath = saveCalendarWithUnreadableWeek();
+        ReadOnlyCalendar calendar = new ShardedCalendarStorage(directoryPath)
+                .readCalendarAround(CALENDAR_DEFAULT_START_DATE).get();
+
+        assertTrue(calendar.getUnreadableWeeks().isEmpty());
+        assertFalse(calendar.hasTask(TASK_IN_LATER_WEEK));
+        assertEquals(Set.of(LATER_WEEK), calendar.getUnreadableWeeks());
+    }
+
+    @Test
+    public void getLoadedTaskCompletionStats_pendingWeeksRead_onlyLoadedWeeksCounted() throws Exception {
+
+        Path directoryPath = saveCalendarWithTasks();
+        ReadOnlyCalendar calendar = new ShardedCalendarStorage(directoryPath)
+                .readCalendarAround(CALENDAR_DEFAULT_START_DATE).get();
+        calendar.getPendingWeeksRead().get();
+
+        // The later week has been read, but is only loaded once it is needed
+        assertEquals("0/1", calendar.getLoadedTaskCompletionStats(1, LATER_WEEK + 1).asFraction());
+        assertEquals("0/2", calendar.getTaskCompletionStats(1, LATER_WEEK + 1).asFraction());
+        assertEquals("0/2", calendar.getLoadedTaskCompletionStats(1, LATER_WEEK + 1).asFraction());
+    }
+
+    @Test
+    public void saveCalendar_changedUnreadableWeek_shardKeptAndExceptionThrown() throws Exception {
+
+        Path directoryPath = saveCalendarWithUnreadableWeek();
+        ShardedCalendarStorage storage = new ShardedCalendarStorage(directoryPath);
+        Calendar calendar = (Calendar) storage.readCalendarAround(CALENDAR_DEFAULT_START_DATE).get();
+
+        calendar.addTask(new Task("Review report", TASK_IN_LATER_WEEK.getDueDate(), LocalTime.NOON, ""));
+
+        assertThrows(IOException.class, String.format(ShardedCalendarStorage.MESSAGE_UNREADABLE_WEEKS,
+                LATER_WEEK + 1), () -> storage.saveCalendar(calendar));
+        assertEquals(CORRUPTED_SHARD, Files.readString(weekShardPath(directoryPath, LATER_WEEK)));
+    }
+
+    @Test
+    public void saveCalendar_fullSaveWithUnreadableWeek_shardNotDeleted() throws Exception {
+
+        Path directoryPath = saveCalendarWithUnreadableWeek();
+        ReadOnlyCalendar calendar = new ShardedCalendarStorage(directoryPath)
+                .readCalendarAround(CALENDAR_DEFAULT_START_DATE).get();
+
+        // A new storage has not read the directory, so it saves the calendar in full
+        new ShardedCalendarStorage(directoryPath).saveCalendar(calendar);
+
+        assertEquals(Set.of(LATER_WEEK), calendar.getUnreadableWeeks());
+        assertEquals(CORRUPTED_SHARD, Files.readString(weekShardPath(directoryPath, LATER_WEEK)));
+        assertTrue(Files.exists(weekShardPath(directoryPath, 0)));
+    }
+
+    @Test
+    public void saveCalendar_unreadableWeekToOtherDirectory_exceptionThrown() throws Exception {
+
+        Path directoryPath = saveCalendarWithUnreadableWeek();
+        ShardedCalendarStorage storage = new ShardedCalendarStorage(directoryPath);
+        ReadOnlyCalendar calendar = storage.readCalendarAround(CALENDAR_DEFAULT_START_DATE).get();
+        Path otherDirectoryPath = testFolder.resolve("copy" + ShardedCalendarStorage.DIRECTORY_EXTENSION);
+
+        assertThrows(IOException.class, () -> storage.saveCalendar(calendar, otherDirectoryPath));
+        assertTrue(Files.exists(weekShardPath(otherDirectoryPath, 0)));
+    }
+
+    /**
+     * Saves a calendar with a task in its first week and another in {@code LATER_WEEK}.
+     */
+    private Path saveCalendarWithTasks() throws IOException {
+
+        Path directoryPath = testFolder.resolve("calendar" + ShardedCalendarStorage.DIRECTORY_EXTENSION);
+        Calendar calendar = new Calendar(CALENDAR_DEFAULT_START_DATE);
+        calendar.addTask(TASK_IN_FIRST_WEEK);
+        calendar.addTask(TASK_IN_LATER_WEEK);
+
+        new ShardedCalendarStorage(directoryPath).saveCalendar(calendar);
+        return directoryPath;
+    }
+
+    /**
+     * Saves a calendar with a task in its first week and another in {@code LATER_WEEK}, then corrupts the shard of
+     * the latter.
+     */
+    private Path saveCalendarWithUnreadableWeek() throws IOException {
+
+        Path directoryPath = saveCalendarWithTasks();
+        Files.writeString(weekShardPath(directoryPath, LATER_WEEK), CORRUPTED_SHARD);
+        return directoryPath;
+    }
+
+    private static void markAllShardsLongAgo(Path directoryPath) throws IOException {
+
+        try (Stream<Path> shards = Files.list(directoryPath)) {
+            for (Path shard : (Iterable<Path>) shards::iterator) {
+                Files.setLastModifiedTime(shard, LONG_AGO);
+            }
+        }
+    }
+
+    private static Path weekShardPath(Path directoryPath, int index) {
+
+        return directoryPath.resolve("week" + index + ".json");
+    }
+
+}